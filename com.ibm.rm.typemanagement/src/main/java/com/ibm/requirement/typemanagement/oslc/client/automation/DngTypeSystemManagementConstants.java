@@ -139,6 +139,65 @@ public interface DngTypeSystemManagementConstants {
 	public static final String PARAMETER_PROCESS_ITEMS_LIMIT_PROTOTYPE = "<processItemsLimit>";
 	public static final String PARAMETER_PROCESS_ITEMS_LIMIT_EXAMPLE = "1000";
 
+	public static final String PARAMETER_THREADS = "threads";
+	public static final String PARAMETER_THREADS_DESCRIPTION = "The number of parallel requests used to read components and configurations from the server.";
+	public static final String PARAMETER_THREADS_PROTOTYPE = "<threads>";
+	public static final String PARAMETER_THREADS_EXAMPLE = "4";
+
+	public static final String PARAMETER_CACHE_DIRECTORY = "cacheDir";
+	public static final String PARAMETER_CACHE_DIRECTORY_DESCRIPTION = "A folder to keep the components and configurations read from the server. Unchanged resources are read from the folder in the next run.";
+	public static final String PARAMETER_CACHE_DIRECTORY_PROTOTYPE = "<cacheDir>";
+	public static final String PARAMETER_CACHE_DIRECTORY_EXAMPLE = "\"..\\cache\"";
+
+	public static final String PARAMETER_INCREMENTAL = "incremental";
+	public static final String PARAMETER_INCREMENTAL_DESCRIPTION = "Only read the configurations of components that changed since the last run. Requires -cacheDir.";
+
+	public static final String PARAMETER_BULK_QUERY = "bulkQuery";
+	public static final String PARAMETER_BULK_QUERY_DESCRIPTION = "Read the components and configurations inline with their container, if the server supports it.";
+
+	public static final String PARAMETER_PAGE_SIZE = "pageSize";
+	public static final String PARAMETER_PAGE_SIZE_DESCRIPTION = "The number of components or configurations to read per container page. The members of a page are read while the next page is requested.";
+	public static final String PARAMETER_PAGE_SIZE_PROTOTYPE = "<pageSize>";
+	public static final String PARAMETER_PAGE_SIZE_EXAMPLE = "100";
+
+	public static final String PARAMETER_COMPONENT_THREADS = "componentThreads";
+	public static final String PARAMETER_COMPONENT_THREADS_DESCRIPTION = "The number of components analyzed in parallel. Each component reads its configurations with the number of threads set by -threads.";
+	public static final String PARAMETER_COMPONENT_THREADS_PROTOTYPE = "<componentThreads>";
+	public static final String PARAMETER_COMPONENT_THREADS_EXAMPLE = "4";
+
+	public static final String PARAMETER_ORDERED_OUTPUT = "orderedOutput";
+	public static final String PARAMETER_ORDERED_OUTPUT_DESCRIPTION = "Write the configurations in the order of the components and their configuration containers, also if they are read in parallel.";
+
+	public static final String PARAMETER_OUTPUT_FORMAT = "outputFormat";
+	public static final String PARAMETER_OUTPUT_FORMAT_DESCRIPTION = "The format of the output file, csv or jsonl for JSON Lines. Default csv. A file name ending with .gz is compressed with gzip.";
+	public static final String PARAMETER_OUTPUT_FORMAT_PROTOTYPE = "<csv|jsonl>";
+	public static final String PARAMETER_OUTPUT_FORMAT_EXAMPLE = "jsonl";
+
+	public static final String PARAMETER_OPERATION_THREADS = "operationThreads";
+	public static final String PARAMETER_OPERATION_THREADS_DESCRIPTION = "The number of configurations the type system is imported into or delivered to in parallel.";
+	public static final String PARAMETER_OPERATION_THREADS_PROTOTYPE = "<operationThreads>";
+	public static final String PARAMETER_OPERATION_THREADS_EXAMPLE = "2";
+
+	public static final String PARAMETER_JOURNAL = "journal";
+	public static final String PARAMETER_JOURNAL_DESCRIPTION = "A file to record the progress of each row. Rows recorded as done are skipped when the command is run again with the same file, interrupted rows continue where they stopped. The file can only be used for the operation it was created for, delete it once the run is finished.";
+	public static final String PARAMETER_JOURNAL_PROTOTYPE = "<journalFile>";
+	public static final String PARAMETER_JOURNAL_EXAMPLE = "\"..\\import.journal\"";
+
+	public static final String PARAMETER_MAX_CONNECTIONS = "maxConnections";
+	public static final String PARAMETER_MAX_CONNECTIONS_DESCRIPTION = "The maximal number of open connections to the servers. Default 20.";
+	public static final String PARAMETER_MAX_CONNECTIONS_PROTOTYPE = "<maxConnections>";
+	public static final String PARAMETER_MAX_CONNECTIONS_EXAMPLE = "20";
+
+	public static final String PARAMETER_MAX_CONNECTIONS_PER_ROUTE = "maxConnectionsPerRoute";
+	public static final String PARAMETER_MAX_CONNECTIONS_PER_ROUTE_DESCRIPTION = "The maximal number of open connections to one server. Default 20.";
+	public static final String PARAMETER_MAX_CONNECTIONS_PER_ROUTE_PROTOTYPE = "<maxConnectionsPerRoute>";
+	public static final String PARAMETER_MAX_CONNECTIONS_PER_ROUTE_EXAMPLE = "10";
+
+	public static final String PARAMETER_CONNECTION_IDLE_TIMEOUT = "connectionIdleTimeout";
+	public static final String PARAMETER_CONNECTION_IDLE_TIMEOUT_DESCRIPTION = "The seconds an unused connection is kept open, unless the server sends a keep-alive timeout. Default 30.";
+	public static final String PARAMETER_CONNECTION_IDLE_TIMEOUT_PROTOTYPE = "<seconds>";
+	public static final String PARAMETER_CONNECTION_IDLE_TIMEOUT_EXAMPLE = "30";
+
 	public static final String PARAMETER_CONFIGURATION_URI = "configurationURI";
 
 	public static final String PARAMETER_CONFIGURATION_URI_DESCRIPTION = "The URI for a configuration.";
@@ -15,16 +15,19 @@
  *******************************************************************************/
 package com.ibm.requirement.typemanagement.oslc.client.automation.commands;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Options;
@@ -40,8 +43,13 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemMa
 import com.ibm.requirement.typemanagement.oslc.client.automation.framework.AbstractCommand;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.ExpensiveScenarioService;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpensiveScenarioService;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.CompressedFileUtil;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.ConcurrentRowSink;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.RowFormat;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.TimeStampUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.CrawlSettings;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.DngCmUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ParallelRequestExecutor;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ProjectAreaOslcServiceProvider;
 import com.ibm.requirement.typemanagement.oslc.client.resources.Component;
 import com.ibm.requirement.typemanagement.oslc.client.resources.Configuration;
@@ -55,12 +63,26 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 
 	private static final int REPORT_PROGRESS_SIZE = 10;
 	public static final Logger logger = LoggerFactory.getLogger(AnalyzeConfigurationsCmd.class);
-	private int itemcount = 0;
+	// Rows of a component are passed to the sink in chunks of about this size
+	private static final int CHUNK_SIZE = 64 * 1024;
+	private static final String[] COLUMNS = { "Configuration ID", "Configuration Type", "Configuration URI",
+			"Configuration Title", "Configuration Description", "Configuration Created", "Configuration Creator",
+			"Configuration Was Derived From", "Configuration Baseline Of Stream", "Configuration Previous Baseline",
+			"Component URI", "Component Title", "Component Description", "Component ProjectArea" };
+	private final AtomicInteger itemcount = new AtomicInteger(0);
+	private final AtomicBoolean limitReached = new AtomicBoolean(false);
 	private int maxcount = -1;
-	private PrintWriter fWriter = null;
+	private Writer fWriter = null;
+	private ConcurrentRowSink fSink = null;
+	private CrawlSettings fCrawlSettings = null;
+	private int fComponentThreads = 1;
+	private boolean fOrdered = false;
+	private long fSequence = 0;
 	private String fDelimiter = ";";
-	private String fQuote = "\"";
-	private String fEmptyString = "\"\"";
+	private RowFormat fFormat = null;
+	// The rows are collected per thread and reused for all components
+	private final ThreadLocal<StringBuilder> fRows = ThreadLocal
+			.withInitial(() -> new StringBuilder(CHUNK_SIZE + 1024));
 
 	/**
 	 * Create new command and give it the name
@@ -85,6 +107,13 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_PROCESS_ITEMS_LIMIT, true,
 				DngTypeSystemManagementConstants.PARAMETER_PROCESS_ITEMS_LIMIT_DESCRIPTION);
+		addCrawlOptions(options);
+		addConnectionOptions(options);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS_DESCRIPTION, 1);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_ORDERED_OUTPUT, false,
+				DngTypeSystemManagementConstants.PARAMETER_ORDERED_OUTPUT_DESCRIPTION);
+		addOutputFormatOption(options);
 		return options;
 	}
 
@@ -146,6 +175,20 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_PROCESS_ITEMS_LIMIT,
 				DngTypeSystemManagementConstants.PARAMETER_PROCESS_ITEMS_LIMIT_EXAMPLE);
 
+		printCrawlSyntax();
+
+		printConnectionSyntax();
+
+		logger.info("\n\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS_EXAMPLE);
+
+		logger.info("\n\tOptional parameter: -{}", DngTypeSystemManagementConstants.PARAMETER_ORDERED_OUTPUT);
+
+		printOutputFormatSyntax();
+
 	}
 
 	@Override
@@ -171,11 +214,25 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 		String scenarioInstance = null;
 		try {
 
+			fCrawlSettings = createCrawlSettings();
+
+			fComponentThreads = getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_COMPONENT_THREADS,
+					fComponentThreads);
+			fOrdered = getCmd().hasOption(DngTypeSystemManagementConstants.PARAMETER_ORDERED_OUTPUT);
+
+			String outputFormat = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT);
+			fFormat = RowFormat.getFormat(outputFormat, fDelimiter);
+			if (fFormat == null) {
+				logger.error("Unknown output format '{}'.", outputFormat);
+				return result;
+			}
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
@@ -183,14 +240,16 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 				scenarioInstance = ExpensiveScenarioService.startScenario(scenarioService);
 				createWriter(csvFilePath);
 				writeHeader();
-				if (projectAreaName == null) {
-					analyzeProjectAreas(client, helper);
-				} else {
-					analyzeConfigurations(client, helper, projectAreaName);
+				fSink = new ConcurrentRowSink(fWriter, fOrdered);
+				try {
+					if (projectAreaName == null) {
+						analyzeProjectAreas(client, helper);
+					} else {
+						analyzeConfigurations(client, helper, projectAreaName);
+					}
+				} finally {
+					fSink.close();
 				}
-
-				fWriter.flush();
-				fWriter.close();
 				result = true;
 			}
 		} catch (Exception e) {
@@ -214,11 +273,10 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 				cmCatalogUrl);
 		for (String factory : projectAreaComponentFactories) {
 			try {
-				Collection<Component> components = DngCmUtil.getComponents(client, factory);
+				Collection<Component> components = DngCmUtil.getComponents(client, fCrawlSettings, factory);
 				analyzeComponents(client, components);
 			} catch (Exception e) {
-				logger.error("Exception analyzing components: " + e.getMessage());
-				e.printStackTrace();
+				logger.error("Exception analyzing components: " + e.getMessage(), e);
 			}
 		}
 		return false;
@@ -248,148 +306,116 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 		}
 
 		// Get the components and the configurations for the components
-		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, cmCatalogUrl,
+		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, fCrawlSettings, cmCatalogUrl,
 				rmProjectAreaOslcServiceProvider.getProjectAreaId());
 		analyzeComponents(client, components);
 
 		return null;
 	}
 
-	private boolean analyzeComponents(JazzFormAuthClient client, Collection<Component> components)
+	/**
+	 * Analyze the components using the number of component threads. Each
+	 * component writes its rows with its own sequence number, so the sink can
+	 * write them in the order of the components. The components share one
+	 * executor to read their configurations, so the number of requests is
+	 * limited by the crawl threads regardless of the component threads.
+	 */
+	private boolean analyzeComponents(final JazzFormAuthClient client, Collection<Component> components)
 			throws IOException, OAuthException, URISyntaxException {
-		for (Iterator<Component> iterator = components.iterator(); iterator.hasNext();) {
-			Component component = (Component) iterator.next();
-			if (!analyzeComponent(client, component)) {
-				return false; // cap
+		ParallelRequestExecutor executor = new ParallelRequestExecutor(
+				Math.min(fComponentThreads, components.size()));
+		final ParallelRequestExecutor crawlExecutor = new ParallelRequestExecutor(fCrawlSettings.getCrawlThreads());
+		try {
+			List<CompletableFuture<Boolean>> results = new ArrayList<CompletableFuture<Boolean>>();
+			for (Iterator<Component> iterator = components.iterator(); iterator.hasNext();) {
+				Component component = (Component) iterator.next();
+				final long sequence = fSequence++;
+				results.add(executor.submit(component, comp -> analyzeComponent(client, crawlExecutor, comp, sequence)));
+			}
+			// Wait for all components, so that all of them passed on their rows
+			ParallelRequestExecutor
+					.getResult(CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[results.size()])));
+			for (CompletableFuture<Boolean> componentResult : results) {
+				if (!componentResult.join()) {
+					return false;
+				}
 			}
+			return true;
+		} finally {
+			executor.shutdown();
+			crawlExecutor.shutdown();
 		}
-		return true;
 	}
 
-	private boolean analyzeComponent(JazzFormAuthClient client, Component component)
-			throws IOException, OAuthException, URISyntaxException {
-
-		String message = componentAsString(component, "\t");
-		logger.info(message);
-		Collection<Configuration> configurations = DngCmUtil.getComponentConfigurations(client, component);
-		for (Configuration configuration : configurations) {
-			if (!doKeepGoing()) {
+	private boolean analyzeComponent(JazzFormAuthClient client, final ParallelRequestExecutor crawlExecutor,
+			final Component component, final long sequence) throws IOException, OAuthException, URISyntaxException {
+		final StringBuilder rows = fRows.get();
+		rows.setLength(0);
+		try {
+			if (limitReached.get()) {
 				return false;
 			}
-			String confMessage = configurationAsString(configuration, "\t\t");
-			writeColumn(component, configuration);
-			// DngCmUtil.createChangeSet(client, configuration);
-			logger.info(confMessage);
+			String message = componentAsString(component, "\t");
+			logger.info(message);
+			// Write each configuration as soon as it is read
+			return DngCmUtil.readComponentConfigurations(client, fCrawlSettings, crawlExecutor, component,
+					configuration -> {
+						if (!doKeepGoing()) {
+							return false;
+						}
+						String confMessage = configurationAsString(configuration, "\t\t");
+						writeColumn(rows, component, configuration);
+						if (!fOrdered && rows.length() > CHUNK_SIZE) {
+							fSink.write(sequence, rows);
+							rows.setLength(0);
+						}
+						// DngCmUtil.createChangeSet(client, configuration);
+						logger.info(confMessage);
+						return true;
+					}, fOrdered);
+		} finally {
+			// Ordered output needs the rows of every component, even if empty
+			fSink.write(sequence, rows);
+			rows.setLength(0);
 		}
-		return true;
-	}
-
-	private void writeColumn(Component component, Configuration configuration) {
-		StringBuilder sb = new StringBuilder();
-		sb.append(getString(configuration.getIdentifier()));
-		sb.append(fDelimiter);
-		sb.append(getString(getConfigurationType(configuration)));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getAbout()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getTitle()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getDescription()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getCreated()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getCreator()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getWasDerivedFrom()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getBaselineOfStream()));
-		sb.append(fDelimiter);
-		sb.append(getString(configuration.getPreviousBaseline()));
-		sb.append(fDelimiter);
-
-		sb.append(getString(component.getAbout()));
-		sb.append(fDelimiter);
-		sb.append(getString(component.getTitle()));
-		sb.append(fDelimiter);
-		sb.append(getString(component.getDescription()));
-		sb.append(fDelimiter);
-		sb.append(getString(component.getProjectArea()));
-		sb.append("\n");
-		fWriter.write(sb.toString());
 	}
 
-	private String writeHeader() {
-
-		StringBuilder sb = new StringBuilder();
-
-		sb.append(getString("Configuration ID"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Type"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration URI"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Title"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Description"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Created"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Creator"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Was Derived From"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Baseline Of Stream"));
-		sb.append(fDelimiter);
-		sb.append(getString("Configuration Previous Baseline"));
-		sb.append(fDelimiter);
-		sb.append(getString("Component URI"));
-		sb.append(fDelimiter);
-		sb.append(getString("Component Title"));
-		sb.append(fDelimiter);
-		sb.append(getString("Component Description"));
-		sb.append(fDelimiter);
-		sb.append(getString("Component ProjectArea"));
-		sb.append("\n");
-		fWriter.write(sb.toString());
-		return sb.toString();
+	private void writeColumn(StringBuilder row, Component component, Configuration configuration) {
+		appendValue(row, 0, configuration.getIdentifier());
+		appendValue(row, 1, getConfigurationType(configuration));
+		appendValue(row, 2, configuration.getAbout());
+		appendValue(row, 3, configuration.getTitle());
+		appendValue(row, 4, configuration.getDescription());
+		appendValue(row, 5, configuration.getCreated());
+		appendValue(row, 6, configuration.getCreator());
+		appendValue(row, 7, configuration.getWasDerivedFrom());
+		appendValue(row, 8, configuration.getBaselineOfStream());
+		appendValue(row, 9, configuration.getPreviousBaseline());
+
+		appendValue(row, 10, component.getAbout());
+		appendValue(row, 11, component.getTitle());
+		appendValue(row, 12, component.getDescription());
+		appendValue(row, 13, component.getProjectArea());
+		fFormat.endRow(row);
 	}
 
-	private String getString(Date date) {
-		if (date == null) {
-			return fEmptyString;
-		}
-		return getString(TimeStampUtil.getDate(date));
+	private void appendValue(StringBuilder row, int column, Date date) {
+		appendValue(row, column, date == null ? null : TimeStampUtil.getDate(date));
 	}
 
-	private String getString(URI uri) {
-		if (uri == null) {
-			return fEmptyString;
-		}
-		return getString(uri.toString());
+	private void appendValue(StringBuilder row, int column, URI uri) {
+		appendValue(row, column, uri == null ? null : uri.toString());
 	}
 
-	private String getString(String value) {
-		if (value != null) {
-			String cleaned = replaceCharacter(value,fQuote, "'");
-			//cleaned = replaceCharacter(value,fDelimiter, "-");
-			return fQuote + cleaned + fQuote;
-		}
-		return fEmptyString;
+	private void appendValue(StringBuilder row, int column, String value) {
+		fFormat.appendValue(row, COLUMNS, column, value);
 	}
 
-	/**
-	 * Replace a character that causes the 
-	 * @param value
-	 * @param remove
-	 * @param replace
-	 * @return
-	 */
-	private String replaceCharacter(String value, String remove, String replace) {
-		if (value.contains(remove)) {
-			logger.info("Character " + remove + " detected in '" + value + "'");
-			return value.replace(remove, replace);
-		}
-		return value;
+	private String writeHeader() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		fFormat.appendHeader(sb, COLUMNS);
+		fWriter.write(sb.toString());
+		return sb.toString();
 	}
 
 	@SuppressWarnings("unused")
@@ -467,23 +493,26 @@ public class AnalyzeConfigurationsCmd extends AbstractCommand {
 	}
 
 	private boolean doKeepGoing() {
-		int showProgress = ++itemcount % REPORT_PROGRESS_SIZE;
+		int count = itemcount.incrementAndGet();
+		int showProgress = count % REPORT_PROGRESS_SIZE;
 		if (showProgress == 0) {
-			logger.info(TimeStampUtil.getTimestamp() + " Processed items:" + Integer.valueOf(itemcount));
+			logger.info(TimeStampUtil.getTimestamp() + " Processed items:" + Integer.valueOf(count));
 		}
-		if (itemcount < maxcount) {
+		if (count < maxcount) {
 			return true;
 		}
 		// If maxcount smaller than 0 we execute limitless
 		if (maxcount < 0) {
 			return true;
 		}
-		logger.info("Exceeded processed items limit. Items processed: " + Integer.valueOf(itemcount));
+		if (limitReached.compareAndSet(false, true)) {
+			logger.info("Exceeded processed items limit. Items processed: " + Integer.valueOf(count));
+		}
 		return false;
 	}
 
-	private void createWriter(String fileName) throws FileNotFoundException, UnsupportedEncodingException {
-		fWriter = new PrintWriter(new File(fileName), "UTF-8");
+	private void createWriter(String fileName) throws IOException {
+		fWriter = CompressedFileUtil.createWriter(fileName, StandardCharsets.UTF_8);
 	}
 
 }
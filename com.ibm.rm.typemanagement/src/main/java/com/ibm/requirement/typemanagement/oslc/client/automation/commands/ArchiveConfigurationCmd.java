@@ -65,6 +65,7 @@ public class ArchiveConfigurationCmd extends AbstractCommand {
 //				DngTypeSystemManagementConstants.PARAMETER_CSV_FILE_PATH_DESCRIPTION);
 //		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER, true,
 //				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
+		addConnectionOptions(options);
 		return options;
 	}
 
@@ -111,6 +112,7 @@ public class ArchiveConfigurationCmd extends AbstractCommand {
 //				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_PROTOTYPE);
 //		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER,
 //				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_EXAMPLE);
+		printConnectionSyntax();
 	}
 
 
@@ -134,6 +136,7 @@ public class ArchiveConfigurationCmd extends AbstractCommand {
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
@@ -15,8 +15,6 @@
  *******************************************************************************/
 package com.ibm.requirement.typemanagement.oslc.client.automation.commands;
 
-import java.util.List;
-
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Options;
 import org.apache.http.HttpStatus;
@@ -32,9 +30,10 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.framework.Abstr
 import com.ibm.requirement.typemanagement.oslc.client.automation.framework.ICommand;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.ExpensiveScenarioService;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpensiveScenarioService;
-import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvConfigurationReader;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvUtil;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ConfigurationMappingUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ProgressJournal;
 
 /**
  * Use a CSV file as input to deliver the changes to a type system in a
@@ -67,6 +66,11 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_FILE_PATH_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER, true,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_DESCRIPTION, 1);
+		addConnectionOptions(options);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_JOURNAL, true,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_DESCRIPTION);
 		return options;
 	}
 
@@ -113,6 +117,16 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_PROTOTYPE);
 		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_EXAMPLE);
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_EXAMPLE);
+		printConnectionSyntax();
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_EXAMPLE);
 	}
 
 	@Override
@@ -130,6 +144,8 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 		JazzFormAuthClient client = null;
 		IExpensiveScenarioService scenarioService = null;
 		String scenarioInstance = null;
+		ProgressJournal journal = null;
+		CsvConfigurationReader configurations = null;
 		try {
 			// Import the data
 			CsvUtil csv = new CsvUtil();
@@ -138,15 +154,23 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 			}
 
 			logger.info("Using csv file '{}'", csvFilePath);
-			List<CsvExportImportInformation> configurations = csv.readConfigurations(csvFilePath);
+			configurations = csv.openConfigurations(csvFilePath);
 			if (configurations == null) {
 				return result;
 			}
+			int operationThreads = getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS, 1);
+
+			String journalFile = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_JOURNAL);
+			if (journalFile != null) {
+				journal = ProgressJournal.open(journalFile, ProgressJournal.OPERATION_DELIVER);
+			}
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
@@ -160,7 +184,8 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 					return result;
 				}
 
-				result = ConfigurationMappingUtil.deliverConfigurations(client, configurations);
+				result = ConfigurationMappingUtil.deliverConfigurations(client, configurations,
+						operationThreads, journal);
 				logger.trace("End");
 			}
 		} catch (RootServicesException re) {
@@ -169,6 +194,12 @@ public class DeliverTypeSystemCmd extends AbstractCommand implements ICommand {
 			e.printStackTrace();
 			logger.error(e.getMessage(), e);
 		} finally {
+			if (configurations != null) {
+				configurations.close();
+			}
+			if (journal != null) {
+				journal.close();
+			}
 			ExpensiveScenarioService.stopScenario(scenarioService, scenarioInstance);
 		}
 		return result;
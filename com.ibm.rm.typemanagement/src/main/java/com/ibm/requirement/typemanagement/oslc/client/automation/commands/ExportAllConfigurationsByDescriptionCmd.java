@@ -33,6 +33,7 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpen
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvUtil;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ConfigurationMappingUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.CrawlSettings;
 
 /**
  * Exports the streams/configurations of a project area to CSV/Excel.
@@ -65,6 +66,9 @@ public class ExportAllConfigurationsByDescriptionCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_FILE_PATH_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER, true,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
+		addCrawlOptions(options);
+		addConnectionOptions(options);
+		addOutputFormatOption(options);
 		return options;
 	}
 
@@ -121,6 +125,9 @@ public class ExportAllConfigurationsByDescriptionCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_PROTOTYPE);
 		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_EXAMPLE);
+		printCrawlSyntax();
+		printConnectionSyntax();
+		printOutputFormatSyntax();
 	}
 
 	@Override
@@ -141,21 +148,28 @@ public class ExportAllConfigurationsByDescriptionCmd extends AbstractCommand {
 		String scenarioInstance = null;
 		try {
 
+			CrawlSettings settings = createCrawlSettings();
+
+			String outputFormat = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT);
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
 						getCommandName());
 				scenarioInstance = ExpensiveScenarioService.startScenario(scenarioService);
 				List<CsvExportImportInformation> configurationList = ConfigurationMappingUtil
-						.getEditableConfigurationMappingBydescriptionTag(client, helper, sourceTag, targetTag);
+						.getEditableConfigurationMappingBydescriptionTag(client, helper, settings, sourceTag,
+								targetTag);
 				if (configurationList != null) {
 					// export the data
 					CsvUtil csv = new CsvUtil();
+					csv.setFormat(outputFormat);
 					if (null != csvDelimiter && csvDelimiter != "") {
 						csv.setSeperator(csvDelimiter.charAt(0));
 					}
@@ -33,6 +33,7 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpen
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvUtil;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ConfigurationMappingUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.CrawlSettings;
 
 /**
  * Exports the streams/configurations of a project area to CSV/Excel.
@@ -63,6 +64,9 @@ public class ExportConfigurationsCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_FILE_PATH_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER, true,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
+		addCrawlOptions(options);
+		addConnectionOptions(options);
+		addOutputFormatOption(options);
 		return options;
 	}
 
@@ -115,6 +119,9 @@ public class ExportConfigurationsCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_PROTOTYPE);
 		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_EXAMPLE);
+		printCrawlSyntax();
+		printConnectionSyntax();
+		printOutputFormatSyntax();
 	}
 
 	@Override
@@ -134,11 +141,16 @@ public class ExportConfigurationsCmd extends AbstractCommand {
 		String scenarioInstance = null;
 		try {
 
+			CrawlSettings settings = createCrawlSettings();
+
+			String outputFormat = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT);
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
@@ -146,10 +158,11 @@ public class ExportConfigurationsCmd extends AbstractCommand {
 				scenarioInstance = ExpensiveScenarioService.startScenario(scenarioService);
 				logger.info("Getting Configurations");
 				List<CsvExportImportInformation> configurationList = ConfigurationMappingUtil
-						.getEditableConfigurationsForProjectArea(client, helper, projectAreaName);
+						.getEditableConfigurationsForProjectArea(client, helper, settings, projectAreaName);
 				if (configurationList != null) {
 					// export the data
 					CsvUtil csv = new CsvUtil();
+					csv.setFormat(outputFormat);
 					if (null != csvDelimiter && csvDelimiter != "") {
 						csv.setSeperator(csvDelimiter.charAt(0));
 					}
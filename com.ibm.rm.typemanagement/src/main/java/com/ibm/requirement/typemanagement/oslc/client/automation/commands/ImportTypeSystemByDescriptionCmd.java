@@ -32,6 +32,8 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.Expens
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpensiveScenarioService;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ConfigurationMappingUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.CrawlSettings;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ProgressJournal;
 
 /**
  * Exports the streams/configurations of a project area to CSV/Excel.
@@ -60,6 +62,12 @@ public class ImportTypeSystemByDescriptionCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_SOURCE_TAG_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_TARGET_TAG, true,
 				DngTypeSystemManagementConstants.PARAMETER_TARGET_TAG_DESCRIPTION);
+		addCrawlOptions(options);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_DESCRIPTION, 1);
+		addConnectionOptions(options);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_JOURNAL, true,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_DESCRIPTION);
 		return options;
 	}
 
@@ -105,6 +113,17 @@ public class ImportTypeSystemByDescriptionCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_SOURCE_TAG_EXAMPLE,
 				DngTypeSystemManagementConstants.PARAMETER_TARGET_TAG,
 				DngTypeSystemManagementConstants.PARAMETER_TARGET_TAG_EXAMPLE);
+		printCrawlSyntax();
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_EXAMPLE);
+		printConnectionSyntax();
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_EXAMPLE);
 	}
 
 	@Override
@@ -121,22 +140,35 @@ public class ImportTypeSystemByDescriptionCmd extends AbstractCommand {
 		JazzFormAuthClient client = null;
 		IExpensiveScenarioService scenarioService = null;
 		String scenarioInstance = null;
+		ProgressJournal journal = null;
 		try {
 
+			CrawlSettings settings = createCrawlSettings();
+
+			int operationThreads = getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS, 1);
+
+			String journalFile = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_JOURNAL);
+			if (journalFile != null) {
+				journal = ProgressJournal.open(journalFile, ProgressJournal.OPERATION_IMPORT);
+			}
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
 						getCommandName());
 				scenarioInstance = ExpensiveScenarioService.startScenario(scenarioService);
 				List<CsvExportImportInformation> configurations = ConfigurationMappingUtil
-						.getEditableConfigurationMappingBydescriptionTag(client, helper, sourceTag, targetTag);
+						.getEditableConfigurationMappingBydescriptionTag(client, helper, settings, sourceTag,
+								targetTag);
 				if (configurations != null) {
-					result = ConfigurationMappingUtil.importConfigurations(client, configurations);
+					result = ConfigurationMappingUtil.importConfigurations(client, configurations.iterator(),
+							operationThreads, journal);
 					logger.trace("End");
 				}
 			}
@@ -144,6 +176,9 @@ public class ImportTypeSystemByDescriptionCmd extends AbstractCommand {
 			e.printStackTrace();
 			logger.error(e.getMessage(), e);
 		} finally {
+			if (journal != null) {
+				journal.close();
+			}
 			ExpensiveScenarioService.stopScenario(scenarioService, scenarioInstance);
 		}
 		return result;
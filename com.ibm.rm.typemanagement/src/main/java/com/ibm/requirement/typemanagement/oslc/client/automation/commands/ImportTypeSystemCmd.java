@@ -15,8 +15,6 @@
  *******************************************************************************/
 package com.ibm.requirement.typemanagement.oslc.client.automation.commands;
 
-import java.util.List;
-
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Options;
 import org.apache.http.HttpStatus;
@@ -31,9 +29,10 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemMa
 import com.ibm.requirement.typemanagement.oslc.client.automation.framework.AbstractCommand;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.ExpensiveScenarioService;
 import com.ibm.requirement.typemanagement.oslc.client.automation.scenario.IExpensiveScenarioService;
-import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvConfigurationReader;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvUtil;
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.ConfigurationMappingUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ProgressJournal;
 
 /**
  * Use a CSV file as input to import the type system in streams/configurations
@@ -66,6 +65,11 @@ public class ImportTypeSystemCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_FILE_PATH_DESCRIPTION);
 		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER, true,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_DESCRIPTION);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_DESCRIPTION, 1);
+		addConnectionOptions(options);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_JOURNAL, true,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_DESCRIPTION);
 		return options;
 	}
 
@@ -113,6 +117,16 @@ public class ImportTypeSystemCmd extends AbstractCommand {
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_PROTOTYPE);
 		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER,
 				DngTypeSystemManagementConstants.PARAMETER_CSV_DELIMITER_EXAMPLE);
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS_EXAMPLE);
+		printConnectionSyntax();
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_JOURNAL,
+				DngTypeSystemManagementConstants.PARAMETER_JOURNAL_EXAMPLE);
 	}
 
 	@Override
@@ -129,12 +143,22 @@ public class ImportTypeSystemCmd extends AbstractCommand {
 		JazzFormAuthClient client = null;
 		IExpensiveScenarioService scenarioService = null;
 		String scenarioInstance = null;
+		ProgressJournal journal = null;
+		CsvConfigurationReader configurations = null;
 		try {
+			int operationThreads = getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_OPERATION_THREADS, 1);
+
+			String journalFile = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_JOURNAL);
+			if (journalFile != null) {
+				journal = ProgressJournal.open(journalFile, ProgressJournal.OPERATION_IMPORT);
+			}
+
 			// Login
 			JazzRootServicesHelper helper = new JazzRootServicesHelper(webContextUrl, OSLCConstants.OSLC_RM_V2);
 			logger.trace("Login");
 			String authUrl = webContextUrl.replaceFirst("/rm", "/jts");
 			client = helper.initFormClient(user, passwd, authUrl);
+			configureClient(client);
 
 			if (client.login() == HttpStatus.SC_OK) {
 
@@ -144,14 +168,15 @@ public class ImportTypeSystemCmd extends AbstractCommand {
 					csv.setSeperator(csvDelimiter.charAt(0));
 				}
 				logger.info("Using csv file '{}'", csvFilePath);
-				List<CsvExportImportInformation> configurations = csv.readConfigurations(csvFilePath);
+				configurations = csv.openConfigurations(csvFilePath);
 				if (configurations == null) {
 					return result;
 				}
 				scenarioService = ExpensiveScenarioService.createScenarioService(client, webContextUrl,
 						getCommandName());
 				scenarioInstance = ExpensiveScenarioService.startScenario(scenarioService);
-				result = ConfigurationMappingUtil.importConfigurations(client, configurations);
+				result = ConfigurationMappingUtil.importConfigurations(client, configurations,
+						operationThreads, journal);
 				logger.trace("End");
 			}
 		} catch (RootServicesException re) {
@@ -160,6 +185,12 @@ public class ImportTypeSystemCmd extends AbstractCommand {
 			e.printStackTrace();
 			logger.error(e.getMessage(), e);
 		} finally {
+			if (configurations != null) {
+				configurations.close();
+			}
+			if (journal != null) {
+				journal.close();
+			}
 			ExpensiveScenarioService.stopScenario(scenarioService, scenarioInstance);
 		}
 		return result;
@@ -16,14 +16,24 @@
 
 package com.ibm.requirement.typemanagement.oslc.client.automation.framework;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.GnuParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.eclipse.lyo.client.oslc.OslcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemManagementConstants;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.ConnectionPoolUtil;
+import com.ibm.requirement.typemanagement.oslc.client.automation.util.ResponseCompressionUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.CrawlSettings;
+
 /**
  * Abstract class representing the basic workflow of a command.
  */
@@ -32,6 +42,7 @@ public abstract class AbstractCommand implements ICommand {
 	public static final Logger logger = LoggerFactory.getLogger(AbstractCommand.class);
 	private CommandLine cmd = null;
 	private String commandName;
+	private Map<String, Integer> integerOptions = new LinkedHashMap<String, Integer>();
 
 	/**
 	 * @param commandName
@@ -68,18 +79,240 @@ public abstract class AbstractCommand implements ICommand {
 			// Parse the command line
 			CommandLineParser cliParser = new GnuParser();
 			this.cmd = cliParser.parse(options, args);
-			if (!checkParameters(cmd)) {
+			if (!checkParameters(cmd) || !checkIntegerOptions(cmd)) {
 				printSyntax();
 				return false;
 			}
 
 		} catch (ParseException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			logger.error(e.getMessage());
+			printSyntax();
+			return false;
 		}
 		return execute();
 	}
 
+	/**
+	 * Add an option that takes a number. The value is validated before the
+	 * command is executed and can be read with
+	 * {@link #getIntegerOption(String, int)}.
+	 * 
+	 * @param options
+	 * @param name
+	 *            the name of the option
+	 * @param description
+	 *            the description of the option
+	 * @param minimum
+	 *            the smallest value accepted
+	 * @return the options
+	 */
+	protected Options addIntegerOption(Options options, final String name, final String description,
+			final int minimum) {
+		integerOptions.put(name, minimum);
+		return options.addOption(name, true, description);
+	}
+
+	/**
+	 * Validate the values of the options added with
+	 * {@link #addIntegerOption(Options, String, String, int)}.
+	 * 
+	 * @param cmd
+	 * @return true if all values are numbers in the accepted range.
+	 */
+	private boolean checkIntegerOptions(final CommandLine cmd) {
+		for (Map.Entry<String, Integer> option : integerOptions.entrySet()) {
+			String value = cmd.getOptionValue(option.getKey());
+			if (value == null) {
+				continue;
+			}
+			try {
+				if (Integer.parseInt(value.trim()) < option.getValue()) {
+					logger.error("The value '{}' of parameter -{} must be at least {}.", value, option.getKey(),
+							option.getValue());
+					return false;
+				}
+			} catch (NumberFormatException e) {
+				logger.error("The value '{}' of parameter -{} is not a number.", value, option.getKey());
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param name
+	 *            the name of an option added with
+	 *            {@link #addIntegerOption(Options, String, String, int)}
+	 * @param defaultValue
+	 *            the value to use if the option is not set
+	 * @return the value of the option
+	 */
+	protected int getIntegerOption(final String name, final int defaultValue) {
+		String value = getCmd().getOptionValue(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		return Integer.parseInt(value.trim());
+	}
+
+	/**
+	 * Add the options that control how components and configurations are read
+	 * from the server.
+	 * 
+	 * @param options
+	 * @return the options
+	 */
+	protected Options addCrawlOptions(Options options) {
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_THREADS_DESCRIPTION, 1);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY, true,
+				DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY_DESCRIPTION);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL, false,
+				DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL_DESCRIPTION);
+		options.addOption(DngTypeSystemManagementConstants.PARAMETER_BULK_QUERY, false,
+				DngTypeSystemManagementConstants.PARAMETER_BULK_QUERY_DESCRIPTION);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE,
+				DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE_DESCRIPTION, 0);
+		return options;
+	}
+
+	/**
+	 * Add the options that size the connection pool.
+	 * 
+	 * @param options
+	 * @return the options
+	 */
+	protected Options addConnectionOptions(Options options) {
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_DESCRIPTION, 1);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE_DESCRIPTION, 1);
+		addIntegerOption(options, DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT,
+				DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT_DESCRIPTION, 1);
+		return options;
+	}
+
+	/**
+	 * Add the option to select the format of the exported file.
+	 * 
+	 * @param options
+	 * @return the options
+	 */
+	protected Options addOutputFormatOption(Options options) {
+		return options.addOption(DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT, true,
+				DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT_DESCRIPTION);
+	}
+
+	/**
+	 * Print the syntax of the options added with
+	 * {@link #addCrawlOptions(Options)}.
+	 */
+	protected void printCrawlSyntax() {
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_THREADS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_THREADS,
+				DngTypeSystemManagementConstants.PARAMETER_THREADS_EXAMPLE);
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY,
+				DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY,
+				DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY_EXAMPLE);
+		logger.info("\tOptional parameter: -{}", DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL);
+		logger.info("\tOptional parameter: -{}", DngTypeSystemManagementConstants.PARAMETER_BULK_QUERY);
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE,
+				DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE,
+				DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE_EXAMPLE);
+	}
+
+	/**
+	 * Print the syntax of the options added with
+	 * {@link #addConnectionOptions(Options)}.
+	 */
+	protected void printConnectionSyntax() {
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_EXAMPLE);
+		logger.info("\tOptional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE,
+				DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE_EXAMPLE);
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT,
+				DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}",
+				DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT,
+				DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT_EXAMPLE);
+	}
+
+	/**
+	 * Print the syntax of the option added with
+	 * {@link #addOutputFormatOption(Options)}.
+	 */
+	protected void printOutputFormatSyntax() {
+		logger.info("\tOptional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT,
+				DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT_PROTOTYPE);
+		logger.info("\tExample optional parameter: -{} {}", DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT,
+				DngTypeSystemManagementConstants.PARAMETER_OUTPUT_FORMAT_EXAMPLE);
+	}
+
+	/**
+	 * Create the crawl settings from the options added with
+	 * {@link #addCrawlOptions(Options)}.
+	 * 
+	 * @return the settings to read components and configurations with
+	 * @throws IOException
+	 *             if the cache directory can not be created
+	 */
+	protected CrawlSettings createCrawlSettings() throws IOException {
+		CrawlSettings settings = new CrawlSettings();
+		settings.setCrawlThreads(getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_THREADS, 1));
+		String cacheDirectory = getCmd().getOptionValue(DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY);
+		settings.setCacheDirectory(cacheDirectory);
+		settings.setPageSize(getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE, 0));
+		if (getCmd().hasOption(DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL)) {
+			if (cacheDirectory == null) {
+				logger.info("Option '{}' requires option '{}', reading all configurations.",
+						DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL,
+						DngTypeSystemManagementConstants.PARAMETER_CACHE_DIRECTORY);
+			}
+			if (settings.getPageSize() > 0) {
+				// Paged containers are not cached, so there is nothing to
+				// compare with the last run
+				logger.warn("Option '{}' can not be used with option '{}', reading all configurations.",
+						DngTypeSystemManagementConstants.PARAMETER_INCREMENTAL,
+						DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE);
+			} else {
+				settings.setIncremental(true);
+			}
+		} else if (cacheDirectory != null && settings.getPageSize() > 0) {
+			logger.warn("Option '{}' reads the containers without the cache, only their members are cached.",
+					DngTypeSystemManagementConstants.PARAMETER_PAGE_SIZE);
+		}
+		settings.setBulkQuery(getCmd().hasOption(DngTypeSystemManagementConstants.PARAMETER_BULK_QUERY));
+		return settings;
+	}
+
+	/**
+	 * Size the connection pool of the client with the options added with
+	 * {@link #addConnectionOptions(Options)} and let the client accept
+	 * compressed responses. Call this once after the client is created.
+	 * 
+	 * @param client
+	 *            the OSLC Client
+	 */
+	protected void configureClient(final OslcClient client) {
+		ConnectionPoolUtil.configure(client,
+				getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS,
+						ConnectionPoolUtil.DEFAULT_MAX_CONNECTIONS),
+				getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_MAX_CONNECTIONS_PER_ROUTE,
+						ConnectionPoolUtil.DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+				getIntegerOption(DngTypeSystemManagementConstants.PARAMETER_CONNECTION_IDLE_TIMEOUT,
+						ConnectionPoolUtil.DEFAULT_IDLE_TIMEOUT));
+		ResponseCompressionUtil.install(client);
+	}
+
 	/**
 	 * Add the parser options for the subclass. Method to be implemented in
 	 * subclasses.
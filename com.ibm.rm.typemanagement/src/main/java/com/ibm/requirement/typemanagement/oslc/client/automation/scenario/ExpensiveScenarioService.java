@@ -109,9 +109,12 @@ public class ExpensiveScenarioService implements IExpensiveScenarioService {
 			logger.debug("StartScenario");
 			logger.trace("Json '{}'", scenarioRequest.toString());
 
-			response = this.fClient.createResource(startUri, scenarioRequest.toString(),
-					OslcMediaType.APPLICATION_JSON);
-			HeaderRequestInterceptor.removeRequestInterceptor(this.fClient);
+			try {
+				response = this.fClient.createResource(startUri, scenarioRequest.toString(),
+						OslcMediaType.APPLICATION_JSON);
+			} finally {
+				HeaderRequestInterceptor.removeRequestInterceptor(this.fClient);
+			}
 			logger.debug("Status: " + response.getStatusCode());
 			/**
 			 * 
@@ -200,8 +203,11 @@ public class ExpensiveScenarioService implements IExpensiveScenarioService {
 			logger.debug("StartScenario");
 			logger.trace("Json '{}'", startRequest);
 
-			response = this.fClient.createResource(startUri, startRequest, OslcMediaType.APPLICATION_JSON);
-			HeaderRequestInterceptor.removeRequestInterceptor(this.fClient);
+			try {
+				response = this.fClient.createResource(startUri, startRequest, OslcMediaType.APPLICATION_JSON);
+			} finally {
+				HeaderRequestInterceptor.removeRequestInterceptor(this.fClient);
+			}
 			logger.debug("Status: " + response.getStatusCode());
 			// logger.info("Response: " + RDFUtils.getRawResponse(response));
 			/**
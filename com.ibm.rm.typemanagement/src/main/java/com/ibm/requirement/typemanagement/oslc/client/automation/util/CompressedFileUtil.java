@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Creates buffered readers and writers for data files. Files with the
+ * extension .gz are compressed with gzip while they are written and
+ * decompressed while they are read. The caller chooses the charset, so
+ * files that were written with the platform charset can still be read.
+ *
+ */
+public class CompressedFileUtil {
+
+	public static final String GZIP_EXTENSION = ".gz";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * @param fileName
+	 * @return true if the file is compressed with gzip
+	 */
+	public static boolean isCompressed(final String fileName) {
+		return fileName.toLowerCase().endsWith(GZIP_EXTENSION);
+	}
+
+	/**
+	 * Create a writer for a file, compressing the content if the file has the
+	 * extension .gz.
+	 * 
+	 * @param fileName
+	 * @param charset
+	 *            the charset of the file
+	 * @return the writer, the caller has to close it
+	 * @throws IOException
+	 */
+	public static Writer createWriter(final String fileName, final Charset charset) throws IOException {
+		OutputStream output = new FileOutputStream(fileName);
+		if (isCompressed(fileName)) {
+			output = new GZIPOutputStream(output, BUFFER_SIZE);
+		}
+		return new BufferedWriter(new OutputStreamWriter(output, charset), BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a reader for a file, decompressing the content if the file has
+	 * the extension .gz.
+	 * 
+	 * @param fileName
+	 * @param charset
+	 *            the charset of the file
+	 * @return the reader, the caller has to close it
+	 * @throws IOException
+	 */
+	public static Reader createReader(final String fileName, final Charset charset) throws IOException {
+		InputStream input = new FileInputStream(fileName);
+		if (isCompressed(fileName)) {
+			input = new GZIPInputStream(input, BUFFER_SIZE);
+		}
+		return new BufferedReader(new InputStreamReader(input, charset), BUFFER_SIZE);
+	}
+}
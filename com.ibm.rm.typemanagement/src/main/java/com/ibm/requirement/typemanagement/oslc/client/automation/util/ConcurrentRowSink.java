@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects rows from several worker threads and writes them with a single
+ * writer thread. Workers format their rows into their own buffer and pass the
+ * buffer on as one chunk, so the workers do not wait for each other or for the
+ * file.
+ * 
+ * Each chunk has a sequence number. If the sink is ordered, the chunks are
+ * written in the order of their sequence numbers, regardless of the order in
+ * which the workers finish. Every sequence number from 0 on must then be
+ * written exactly once, an empty chunk if the worker has no rows.
+ * 
+ * The queue of chunks is bounded, workers wait if the writer falls behind
+ * instead of keeping all rows in memory.
+ *
+ */
+public class ConcurrentRowSink implements Closeable {
+
+	public static final Logger logger = LoggerFactory.getLogger(ConcurrentRowSink.class);
+
+	// The number of chunks waiting to be written before the workers wait
+	public static final int DEFAULT_CAPACITY = 64;
+
+	/**
+	 * The rows of a worker.
+	 */
+	private static class Chunk {
+		final long sequence;
+		final String rows;
+
+		Chunk(long sequence, String rows) {
+			this.sequence = sequence;
+			this.rows = rows;
+		}
+	}
+
+	private static final Chunk END = new Chunk(-1, null);
+
+	private final Writer writer;
+	private final boolean ordered;
+	private final BlockingQueue<Chunk> chunks;
+	private final Thread writerThread;
+	private volatile IOException failure = null;
+
+	/**
+	 * Create the sink and start its writer thread.
+	 * 
+	 * @param writer
+	 *            the writer to write the rows to, closed with the sink
+	 * @param ordered
+	 *            true to write the chunks in the order of their sequence
+	 *            numbers
+	 */
+	public ConcurrentRowSink(final Writer writer, final boolean ordered) {
+		this(writer, ordered, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create the sink and start its writer thread.
+	 * 
+	 * @param writer
+	 *            the writer to write the rows to, closed with the sink
+	 * @param ordered
+	 *            true to write the chunks in the order of their sequence
+	 *            numbers
+	 * @param capacity
+	 *            the number of chunks that can wait to be written
+	 */
+	public ConcurrentRowSink(final Writer writer, final boolean ordered, final int capacity) {
+		this.writer = writer;
+		this.ordered = ordered;
+		this.chunks = new ArrayBlockingQueue<Chunk>(capacity);
+		this.writerThread = new Thread(this::writeChunks, "tsm-row-writer");
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	/**
+	 * Pass on the rows of a worker. Waits if the queue of chunks is full.
+	 * 
+	 * @param sequence
+	 *            the sequence number of the rows, only used if the sink is
+	 *            ordered
+	 * @param rows
+	 *            the rows, can be empty
+	 * @throws IOException
+	 *             if writing failed before
+	 */
+	public void write(final long sequence, final CharSequence rows) throws IOException {
+		if (failure != null) {
+			throw failure;
+		}
+		put(new Chunk(sequence, rows.toString()));
+	}
+
+	/**
+	 * Write the remaining rows and close the writer.
+	 * 
+	 * @throws IOException
+	 *             if writing failed
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			put(END);
+			writerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted waiting for the rows to be written", e);
+		} finally {
+			writer.close();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void put(final Chunk chunk) throws IOException {
+		try {
+			chunks.put(chunk);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted waiting to write the rows", e);
+		}
+	}
+
+	/**
+	 * Take the chunks from the queue and write them until the sink is closed.
+	 * Flushes the writer whenever the queue is empty, so rows show up in the
+	 * file while the workers are busy.
+	 */
+	private void writeChunks() {
+		Map<Long, String> waiting = new HashMap<Long, String>();
+		long next = 0;
+		try {
+			while (true) {
+				Chunk chunk = chunks.poll();
+				if (chunk == null) {
+					writer.flush();
+					chunk = chunks.take();
+				}
+				if (chunk == END) {
+					break;
+				}
+				if (!ordered) {
+					writer.write(chunk.rows);
+					continue;
+				}
+				waiting.put(chunk.sequence, chunk.rows);
+				String rows;
+				while ((rows = waiting.remove(next)) != null) {
+					writer.write(rows);
+					next++;
+				}
+			}
+			if (!waiting.isEmpty()) {
+				// A worker did not pass on its rows, write the others anyway
+				logger.warn("Missing rows number {}, writing the {} chunks after it anyway.", Long.valueOf(next),
+						Integer.valueOf(waiting.size()));
+				for (long sequence = next; !waiting.isEmpty(); sequence++) {
+					String rows = waiting.remove(sequence);
+					if (rows != null) {
+						writer.write(rows);
+					}
+				}
+			}
+			writer.flush();
+		} catch (IOException e) {
+			failure = e;
+			logger.error("Unable to write rows: " + e.getMessage(), e);
+			discardChunks();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Take the chunks from the queue until the sink is closed, so workers do
+	 * not wait for a full queue after writing failed.
+	 */
+	private void discardChunks() {
+		try {
+			while (chunks.take() != END) {
+				// Writing failed, the workers get the failure on their next write
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.protocol.HttpContext;
+import org.eclipse.lyo.client.oslc.OslcClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Configures the connection pool of the HTTP client used by an OSLC client.
+ * The client created by the Lyo client uses a pool that allows only two
+ * connections per server, which limits the parallel requests to two, no matter
+ * how many threads send requests. This class sizes the pool, keeps idle
+ * connections alive for a limited time and closes connections that stayed
+ * idle longer, so that a crawl does not run into connections the server
+ * already closed.
+ *
+ */
+@SuppressWarnings("deprecation")
+public class ConnectionPoolUtil {
+
+	public static final Logger logger = LoggerFactory.getLogger(ConnectionPoolUtil.class);
+
+	public static final int DEFAULT_MAX_CONNECTIONS = 20;
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+	public static final int DEFAULT_IDLE_TIMEOUT = 30;
+
+	/**
+	 * The connection managers that already have an evictor thread
+	 */
+	private static final Set<ClientConnectionManager> evictedManagers = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<ClientConnectionManager, Boolean>()));
+
+	/**
+	 * Configure the connection pool of the client. Call this once after the
+	 * client is created. Calling it again resizes the pool, but does not start
+	 * another thread to close idle connections.
+	 * 
+	 * @param client
+	 *            the OSLC Client
+	 * @param maxConnections
+	 *            the maximal number of open connections
+	 * @param maxConnectionsPerRoute
+	 *            the maximal number of open connections to one server
+	 * @param idleTimeout
+	 *            the seconds an unused connection is kept open, if the server
+	 *            does not send a keep-alive timeout
+	 */
+	public static void configure(final OslcClient client, final int maxConnections, final int maxConnectionsPerRoute,
+			final int idleTimeout) {
+		DefaultHttpClient httpClient = (DefaultHttpClient) client.getHttpClient();
+		ClientConnectionManager connectionManager = httpClient.getConnectionManager();
+		if (connectionManager instanceof PoolingClientConnectionManager) {
+			PoolingClientConnectionManager pool = (PoolingClientConnectionManager) connectionManager;
+			pool.setMaxTotal(maxConnections);
+			pool.setDefaultMaxPerRoute(Math.min(maxConnectionsPerRoute, maxConnections));
+		} else if (connectionManager instanceof ThreadSafeClientConnManager) {
+			ThreadSafeClientConnManager pool = (ThreadSafeClientConnManager) connectionManager;
+			pool.setMaxTotal(maxConnections);
+			pool.setDefaultMaxPerRoute(Math.min(maxConnectionsPerRoute, maxConnections));
+		} else {
+			logger.warn("Unable to size the connection pool of connection manager '{}'.",
+					connectionManager.getClass().getName());
+		}
+		logger.debug("Using {} connections, {} per server, idle timeout {}s", maxConnections,
+				maxConnectionsPerRoute, idleTimeout);
+		httpClient.setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
+			@Override
+			public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+				long duration = super.getKeepAliveDuration(response, context);
+				if (duration > 0) {
+					return duration;
+				}
+				return TimeUnit.SECONDS.toMillis(idleTimeout);
+			}
+		});
+		if (evictedManagers.add(connectionManager)) {
+			startIdleConnectionEviction(connectionManager, idleTimeout);
+		}
+	}
+
+	/**
+	 * Start a daemon thread that closes expired connections and connections
+	 * that stayed idle longer than the idle timeout.
+	 * 
+	 * @param connectionManager
+	 * @param idleTimeout
+	 *            the seconds after which idle connections are closed
+	 */
+	private static void startIdleConnectionEviction(final ClientConnectionManager connectionManager,
+			final int idleTimeout) {
+		final long interval = TimeUnit.SECONDS.toMillis(Math.max(1, idleTimeout / 2));
+		Thread evictor = new Thread(() -> {
+			try {
+				while (!Thread.currentThread().isInterrupted()) {
+					Thread.sleep(interval);
+					connectionManager.closeExpiredConnections();
+					connectionManager.closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (IllegalStateException e) {
+				// The connection manager was shut down
+			}
+		}, "tsm-connection-evictor");
+		evictor.setDaemon(true);
+		evictor.start();
+	}
+}
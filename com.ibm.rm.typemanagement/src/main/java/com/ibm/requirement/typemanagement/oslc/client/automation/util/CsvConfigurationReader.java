@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.opencsv.bean.CsvToBean;
+
+/**
+ * Reads the rows of a CSV file one by one, while they are consumed. Only the
+ * current row is kept in memory, so the rows can be processed while the rest
+ * of the file is still read.
+ *
+ */
+public class CsvConfigurationReader implements Iterator<CsvExportImportInformation>, Closeable {
+
+	public static final Logger logger = LoggerFactory.getLogger(CsvConfigurationReader.class);
+
+	private final Reader reader;
+	private final String filePath;
+	private final Iterator<CsvExportImportInformation> rows;
+
+	/**
+	 * @param reader
+	 *            the reader of the file, closed with this reader
+	 * @param filePath
+	 *            the path of the file, used for logging
+	 * @param csvToBean
+	 *            the parser reading from the reader
+	 */
+	CsvConfigurationReader(final Reader reader, final String filePath,
+			final CsvToBean<CsvExportImportInformation> csvToBean) {
+		this.reader = reader;
+		this.filePath = filePath;
+		this.rows = csvToBean.iterator();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return rows.hasNext();
+	}
+
+	@Override
+	public CsvExportImportInformation next() {
+		return rows.next();
+	}
+
+	/**
+	 * Close the file. A failure to close is logged.
+	 */
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			logger.error("IOException closing '{}': {}", filePath, e.getMessage());
+		}
+	}
+}
@@ -62,6 +62,15 @@ public class CsvExportImportInformation {
 				"projectAreaName" };
 	}
 
+	/**
+	 * The values in the order of {@link #getColumnMapping()}
+	 * 
+	 * @return
+	 */
+	public String[] getColumnValues() {
+		return new String[] { source, target, targetTitle, targetDescription, targetComponentName, projectAreaName };
+	}
+
 	public CsvExportImportInformation() {
 		super();
 	}
@@ -16,9 +16,11 @@
 package com.ibm.requirement.typemanagement.oslc.client.automation.util;
 
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +49,7 @@ public class CsvUtil {
 	char quoteChar = CSVWriter.DEFAULT_QUOTE_CHARACTER;
 	char escapeChar = CSVWriter.NO_ESCAPE_CHARACTER;
 	String lineEnd = CSVWriter.DEFAULT_LINE_END;
+	String format = RowFormat.FORMAT_CSV;
 
 	public CsvUtil() {
 		super();
@@ -93,8 +96,34 @@ public class CsvUtil {
 		return lineEnd;
 	}
 
+	public String getFormat() {
+		return format;
+	}
+
+	/**
+	 * @param format
+	 *            {@link RowFormat#FORMAT_CSV}, {@link RowFormat#FORMAT_JSON_LINES}
+	 *            or null for CSV
+	 */
+	public void setFormat(String format) {
+		this.format = format == null ? RowFormat.FORMAT_CSV : format;
+	}
+
+	/**
+	 * Get the charset of a CSV file. Plain CSV files use the platform charset,
+	 * as they always did. Compressed files are new and use UTF-8.
+	 * 
+	 * @param filePath
+	 * @return the charset
+	 */
+	private static Charset getCsvCharset(String filePath) {
+		return CompressedFileUtil.isCompressed(filePath) ? StandardCharsets.UTF_8 : Charset.defaultCharset();
+	}
+
 	/**
-	 * Write the configuration information out to a CSV file.
+	 * Write the configuration information out to a CSV file. Writes JSON Lines
+	 * in UTF-8 instead, if the format is set to JSON Lines. The file is
+	 * compressed with gzip if its name ends with .gz.
 	 * 
 	 * @param csvFilePath
 	 * @param configurationList
@@ -103,9 +132,16 @@ public class CsvUtil {
 	 * @throws CsvRequiredFieldEmptyException
 	 */
 	public boolean exportConfigurationList(String csvFilePath, List<CsvExportImportInformation> configurationList) {
+		if (RowFormat.FORMAT_JSON_LINES.equalsIgnoreCase(getFormat())) {
+			return exportConfigurationListAsJsonLines(csvFilePath, configurationList);
+		}
+		if (!RowFormat.FORMAT_CSV.equalsIgnoreCase(getFormat())) {
+			logger.error("Unknown output format '{}'.", getFormat());
+			return false;
+		}
 		boolean result = false;
 		try {
-			FileWriter fileWriter = new FileWriter(csvFilePath);
+			Writer fileWriter = CompressedFileUtil.createWriter(csvFilePath, getCsvCharset(csvFilePath));
 			CSVWriter writer = new CSVWriter(fileWriter, getSeperator(), getQuoteChar(), getEscapeChar(), getLineEnd());
 			String[] columnMapping = CsvExportImportInformation.getColumnMapping();
 			ColumnPositionMappingStrategy<CsvExportImportInformation> strategy = new ColumnPositionMappingStrategy<CsvExportImportInformation>();
@@ -136,7 +172,38 @@ public class CsvUtil {
 	}
 
 	/**
-	 * We use annotations for CSV reading
+	 * Write the configuration information out as JSON Lines, one object per
+	 * configuration with the columns of the CSV file as keys.
+	 * 
+	 * @param filePath
+	 * @param configurationList
+	 * @return
+	 */
+	private boolean exportConfigurationListAsJsonLines(String filePath,
+			List<CsvExportImportInformation> configurationList) {
+		RowFormat rowFormat = new JsonLinesRowFormat();
+		String[] columns = CsvExportImportInformation.getColumnMapping();
+		StringBuilder row = new StringBuilder(1024);
+		try (Writer writer = CompressedFileUtil.createWriter(filePath, StandardCharsets.UTF_8)) {
+			for (CsvExportImportInformation configuration : configurationList) {
+				row.setLength(0);
+				String[] values = configuration.getColumnValues();
+				for (int i = 0; i < columns.length; i++) {
+					rowFormat.appendValue(row, columns, i, values[i]);
+				}
+				rowFormat.endRow(row);
+				writer.append(row);
+			}
+			return true;
+		} catch (IOException e) {
+			logger.error("IOException creating JSON Lines output writer '{}'", filePath);
+		}
+		return false;
+	}
+
+	/**
+	 * We use annotations for CSV reading. The file is decompressed while it is
+	 * read, if its name ends with .gz.
 	 * 
 	 * @see http://opencsv.sourceforge.net/
 	 * 
@@ -144,18 +211,37 @@ public class CsvUtil {
 	 * @return List<CsvExportImportInformation> or null;
 	 */
 	public List<CsvExportImportInformation> readConfigurations(String filePath) {
-		List<CsvExportImportInformation> configs = null;
+		CsvConfigurationReader reader = openConfigurations(filePath);
+		if (reader == null) {
+			return null;
+		}
+		List<CsvExportImportInformation> configs = new ArrayList<CsvExportImportInformation>();
+		try {
+			while (reader.hasNext()) {
+				configs.add(reader.next());
+			}
+		} finally {
+			reader.close();
+		}
+		return configs;
+	}
 
+	/**
+	 * Open a CSV file to read its rows one by one while they are processed,
+	 * instead of reading the whole file first. The file is decompressed while
+	 * it is read, if its name ends with .gz.
+	 * 
+	 * @param filePath
+	 * @return the reader or null if the file can not be opened. The caller has
+	 *         to close the reader.
+	 */
+	public CsvConfigurationReader openConfigurations(String filePath) {
 		try {
-			FileReader reader = new FileReader(filePath);
+			Reader reader = CompressedFileUtil.createReader(filePath, getCsvCharset(filePath));
 			CsvToBean<CsvExportImportInformation> csvToBean = new CsvToBeanBuilder<CsvExportImportInformation>(reader)
 					.withType(CsvExportImportInformation.class).withSeparator(getSeperator())
 					.withQuoteChar(getQuoteChar()).withEscapeChar(getEscapeChar()).build();
-			configs = new ArrayList<CsvExportImportInformation>();
-			for (CsvExportImportInformation csvExportImportInformation : csvToBean) {
-				configs.add(csvExportImportInformation);
-			}
-			reader.close();
+			return new CsvConfigurationReader(reader, filePath, csvToBean);
 		} catch (FileNotFoundException e) {
 			logger.error("File not found '{}'", filePath);
 			// e.printStackTrace();
@@ -165,7 +251,7 @@ public class CsvUtil {
 			// e.printStackTrace();
 			// throw(e);
 		}
-		return configs;
+		return null;
 	}
 
 }
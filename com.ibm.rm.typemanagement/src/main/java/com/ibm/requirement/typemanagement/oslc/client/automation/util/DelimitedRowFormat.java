@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Formats rows as delimited text with a header. Each value is enclosed in
+ * double quotes. Double quotes in a value are replaced by single quotes.
+ *
+ */
+public class DelimitedRowFormat extends RowFormat {
+
+	public static final Logger logger = LoggerFactory.getLogger(DelimitedRowFormat.class);
+
+	private static final char QUOTE = '"';
+	private static final char QUOTE_REPLACEMENT = '\'';
+
+	private final String delimiter;
+
+	/**
+	 * @param delimiter
+	 *            the delimiter between the values of a row
+	 */
+	public DelimitedRowFormat(final String delimiter) {
+		this.delimiter = delimiter;
+	}
+
+	@Override
+	public void appendHeader(final StringBuilder out, final String[] columns) {
+		for (int i = 0; i < columns.length; i++) {
+			appendValue(out, columns, i, columns[i]);
+		}
+		endRow(out);
+	}
+
+	@Override
+	public void appendValue(final StringBuilder out, final String[] columns, final int column, final String value) {
+		if (column > 0) {
+			out.append(delimiter);
+		}
+		out.append(QUOTE);
+		if (value != null) {
+			int start = out.length();
+			out.append(value);
+			boolean replaced = false;
+			for (int i = start; i < out.length(); i++) {
+				if (out.charAt(i) == QUOTE) {
+					out.setCharAt(i, QUOTE_REPLACEMENT);
+					replaced = true;
+				}
+			}
+			if (replaced) {
+				logger.info("Character " + QUOTE + " detected in '" + value + "'");
+			}
+		}
+		out.append(QUOTE);
+	}
+
+	@Override
+	public void endRow(final StringBuilder out) {
+		out.append('\n');
+	}
+}
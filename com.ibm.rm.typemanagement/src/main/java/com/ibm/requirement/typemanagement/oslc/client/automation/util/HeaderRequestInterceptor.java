@@ -30,39 +30,53 @@ import org.eclipse.lyo.client.oslc.OslcClient;
  * A custom RequestHeaderInterceptor that allows to add and remove headers from
  * a request. It adds the usually required DngApi Headers, in case they are
  * missing.
+ * 
+ * Only one interceptor is installed on the HTTP client. The headers to add and
+ * remove are kept per thread, so threads that share the same authenticated
+ * client can send requests with different headers at the same time, e.g. a
+ * different Configuration-Context.
  *
  */
 @SuppressWarnings("deprecation")
 public class HeaderRequestInterceptor implements HttpRequestInterceptor {
 
-	HashMap<String, String> addHeaders = null;
-	HashMap<String, String> removeHeaders = null;
+	/**
+	 * The headers to add and remove for the requests of one thread.
+	 */
+	private static class RequestHeaders {
+		Map<String, String> addHeaders = null;
+		Map<String, String> removeHeaders = null;
+
+		RequestHeaders(Map<String, String> addHeaders, Map<String, String> removeHeaders) {
+			this.addHeaders = addHeaders;
+			this.removeHeaders = removeHeaders;
+		}
+	}
+
+	private static final ThreadLocal<RequestHeaders> requestHeaders = new ThreadLocal<RequestHeaders>();
 
 	/**
 	 * Constructor
-	 * 
-	 * @param addHeaders
-	 *            the headers to be added or null
-	 * @param removeHeaders
-	 *            the headers to be removed or null
 	 */
-	private HeaderRequestInterceptor(HashMap<String, String> addHeaders, HashMap<String, String> removeHeaders) {
-		this.addHeaders = addHeaders;
-		this.removeHeaders = removeHeaders;
+	private HeaderRequestInterceptor() {
 	}
 
 	@Override
 	public void process(HttpRequest request, HttpContext context) throws HttpException, IOException {
+		RequestHeaders headers = requestHeaders.get();
+		if (headers == null) {
+			return;
+		}
 		// Remove request headers.
-		if (removeHeaders != null) {
-			for (Map.Entry<String, String> entry : removeHeaders.entrySet()) {
+		if (headers.removeHeaders != null) {
+			for (Map.Entry<String, String> entry : headers.removeHeaders.entrySet()) {
 				// Remove the header.
 				request.removeHeaders(entry.getKey());
 			}
 		}
 		// Add request headers.
-		if (addHeaders != null) {
-			for (Map.Entry<String, String> entry : addHeaders.entrySet()) {
+		if (headers.addHeaders != null) {
+			for (Map.Entry<String, String> entry : headers.addHeaders.entrySet()) {
 				// Add the header. Remove the header first, in case it exists.
 				request.removeHeaders(entry.getKey());
 				request.addHeader(entry.getKey(), entry.getValue());
@@ -74,6 +88,10 @@ public class HeaderRequestInterceptor implements HttpRequestInterceptor {
 	 * Install the request Interceptor. This method hides the deprecation of the
 	 * HTTP Client.
 	 * 
+	 * The headers are used for the requests of the current thread, until
+	 * {@link #removeRequestInterceptor(OslcClient)} is called. Callers should
+	 * call it in a finally block.
+	 * 
 	 * @param client
 	 *            the OSLC Client
 	 * @param addHeaders
@@ -83,9 +101,13 @@ public class HeaderRequestInterceptor implements HttpRequestInterceptor {
 	 */
 	public static void installRequestInterceptor(OslcClient client, HashMap<String, String> addHeaders,
 			HashMap<String, String> removeHeaders) {
-		HttpRequestInterceptor requestHeaderFixer = new HeaderRequestInterceptor(addHeaders, removeHeaders);
-		((DefaultHttpClient) client.getHttpClient()).addRequestInterceptor(requestHeaderFixer);
-
+		DefaultHttpClient httpClient = (DefaultHttpClient) client.getHttpClient();
+		synchronized (httpClient) {
+			if (!isInstalled(httpClient)) {
+				httpClient.addRequestInterceptor(new HeaderRequestInterceptor());
+			}
+		}
+		requestHeaders.set(new RequestHeaders(addHeaders, removeHeaders));
 	}
 
 	/**
@@ -102,24 +124,37 @@ public class HeaderRequestInterceptor implements HttpRequestInterceptor {
 	}
 
 	/**
-	 * Removes the request interceptor This should be done after each call, in
-	 * order to make sure the interseptor is not active where it should not.
+	 * Removes the headers of the current thread. This should be done after
+	 * each call, in order to make sure the headers are not active where they
+	 * should not. The interceptor itself stays installed, as other threads
+	 * might be using it.
 	 * 
 	 * @param client
 	 */
 	public static void removeRequestInterceptor(OslcClient client) {
-		((DefaultHttpClient) client.getHttpClient()).removeRequestInterceptorByClass(HeaderRequestInterceptor.class);
+		requestHeaders.remove();
 	}
 
 	/**
-	 * Remove the request Interceptor.
+	 * Remove the headers of the current thread.
 	 * 
 	 * @param client
 	 *            the OSLC Client
-	 * @param addHeaders
-	 *            the headers to be added or null
 	 */
 	public static void clearHeaders(OslcClient client) {
-		installRequestInterceptor(client, null, null);
+		removeRequestInterceptor(client);
+	}
+
+	/**
+	 * @param httpClient
+	 * @return true if an interceptor of this class is installed on the client
+	 */
+	private static boolean isInstalled(DefaultHttpClient httpClient) {
+		for (int i = 0; i < httpClient.getRequestInterceptorCount(); i++) {
+			if (httpClient.getRequestInterceptor(i) instanceof HeaderRequestInterceptor) {
+				return true;
+			}
+		}
+		return false;
 	}
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+/**
+ * Formats rows as JSON Lines, one JSON object per line with the column names
+ * as keys. There is no header.
+ *
+ * @see <a href="https://jsonlines.org/">JSON Lines</a>
+ */
+public class JsonLinesRowFormat extends RowFormat {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	@Override
+	public void appendHeader(final StringBuilder out, final String[] columns) {
+		// JSON Lines has no header
+	}
+
+	@Override
+	public void appendValue(final StringBuilder out, final String[] columns, final int column, final String value) {
+		out.append(column == 0 ? '{' : ',');
+		appendString(out, columns[column]);
+		out.append(':');
+		if (value == null) {
+			out.append("null");
+		} else {
+			appendString(out, value);
+		}
+	}
+
+	@Override
+	public void endRow(final StringBuilder out) {
+		out.append("}\n");
+	}
+
+	/**
+	 * Append a string as JSON string.
+	 * 
+	 * @param out
+	 * @param value
+	 */
+	private static void appendString(final StringBuilder out, final String value) {
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				out.append("\\\"");
+				break;
+			case '\\':
+				out.append("\\\\");
+				break;
+			case '\n':
+				out.append("\\n");
+				break;
+			case '\r':
+				out.append("\\r");
+				break;
+			case '\t':
+				out.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+				} else {
+					out.append(c);
+				}
+			}
+		}
+		out.append('"');
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.eclipse.lyo.client.oslc.OslcClient;
+
+/**
+ * Negotiates compressed responses for all requests of an OSLC client. The
+ * requests ask for gzip or deflate encoded responses and the responses are
+ * decompressed before they are passed on, so the parsers read the plain
+ * content as before. The RDF/XML of containers and service documents
+ * compresses well, so this reduces the data transferred during a crawl.
+ *
+ */
+@SuppressWarnings("deprecation")
+public class ResponseCompressionUtil {
+
+	/**
+	 * Install the interceptors that negotiate and decompress the responses.
+	 * Installing them again has no effect. This method hides the deprecation
+	 * of the HTTP Client.
+	 * 
+	 * @param client
+	 *            the OSLC Client
+	 */
+	public static void install(final OslcClient client) {
+		DefaultHttpClient httpClient = (DefaultHttpClient) client.getHttpClient();
+		synchronized (httpClient) {
+			if (!isInstalled(httpClient)) {
+				httpClient.addRequestInterceptor(new RequestAcceptEncoding());
+				httpClient.addResponseInterceptor(new ResponseContentEncoding());
+			}
+		}
+	}
+
+	/**
+	 * @param httpClient
+	 * @return true if the response interceptor is installed on the client
+	 */
+	private static boolean isInstalled(DefaultHttpClient httpClient) {
+		for (int i = 0; i < httpClient.getResponseInterceptorCount(); i++) {
+			if (httpClient.getResponseInterceptor(i) instanceof ResponseContentEncoding) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+/**
+ * Formats rows of values for an output file. The rows are appended to a
+ * buffer, so a row can be built without intermediate strings and written as a
+ * whole.
+ *
+ */
+public abstract class RowFormat {
+
+	public static final String FORMAT_CSV = "csv";
+	public static final String FORMAT_JSON_LINES = "jsonl";
+
+	/**
+	 * Get a format by its name.
+	 * 
+	 * @param format
+	 *            {@link #FORMAT_CSV}, {@link #FORMAT_JSON_LINES} or null for CSV
+	 * @param delimiter
+	 *            the delimiter used by the CSV format
+	 * @return the format or null if the name is unknown
+	 */
+	public static RowFormat getFormat(final String format, final String delimiter) {
+		if (format == null || FORMAT_CSV.equalsIgnoreCase(format)) {
+			return new DelimitedRowFormat(delimiter);
+		}
+		if (FORMAT_JSON_LINES.equalsIgnoreCase(format)) {
+			return new JsonLinesRowFormat();
+		}
+		return null;
+	}
+
+	/**
+	 * Append the header, if the format has one.
+	 * 
+	 * @param out
+	 * @param columns
+	 *            the names of the columns
+	 */
+	public abstract void appendHeader(StringBuilder out, String[] columns);
+
+	/**
+	 * Append a value to the current row. The values of a row are appended in
+	 * the order of the columns.
+	 * 
+	 * @param out
+	 * @param columns
+	 *            the names of the columns
+	 * @param column
+	 *            the index of the column of the value
+	 * @param value
+	 *            the value or null
+	 */
+	public abstract void appendValue(StringBuilder out, String[] columns, int column, String value);
+
+	/**
+	 * End the current row.
+	 * 
+	 * @param out
+	 */
+	public abstract void endRow(StringBuilder out);
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.wink.client.ClientResponse;
+import org.eclipse.lyo.client.oslc.OSLCConstants;
+import org.eclipse.lyo.client.oslc.jazz.JazzFormAuthClient;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.oauth.OAuthException;
+
+/**
+ * A container read with the properties of its members inline. The container
+ * is requested with oslc.properties, so a server that supports it returns the
+ * properties of all members in the same response. Members that are not
+ * returned inline, or only with some of their properties, have to be read
+ * with their own request.
+ *
+ * @param <T>
+ *            the type of the members e.g. Configuration
+ */
+public class BulkContainer<T extends AbstractResource> {
+
+	public static final Logger logger = LoggerFactory.getLogger(BulkContainer.class);
+
+	// Request all properties of the members
+	public static final String OSLC_PROPERTIES_ALL = "oslc.properties=*";
+
+	private final LdpContainerParser container;
+	private final Map<String, T> resources;
+
+	private BulkContainer(final LdpContainerParser container, final Map<String, T> resources) {
+		this.container = container;
+		this.resources = resources;
+	}
+
+	/**
+	 * Read a container with the properties of its members.
+	 * 
+	 * @param client
+	 * @param containerUrl
+	 *            the URL of the container
+	 * @param resourceClass
+	 *            the class of the members
+	 * @param requiredProperties
+	 *            the properties a member needs to be used inline
+	 * @return the container or null if it could not be read
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static <T extends AbstractResource> BulkContainer<T> read(final JazzFormAuthClient client,
+			final String containerUrl, final Class<T> resourceClass, final String... requiredProperties)
+			throws IOException, OAuthException, URISyntaxException {
+		final String query = getQueryUrl(containerUrl);
+		byte[] body = null;
+		ClientResponse response = null;
+		try {
+			response = client.getResource(query, OslcMediaType.RDF_XML);
+			logger.debug("Status: " + response.getStatusCode());
+			switch (response.getStatusCode()) {
+			case 200:
+				logger.trace("Success reading '{}'.", query);
+				body = ResourceCache.readContent(response.getEntity(InputStream.class));
+				break;
+			default:
+				logger.trace("Unexpected return code. Session '{}'.", query);
+				return null;
+			}
+		} finally {
+			if (response != null) {
+				response.consumeContent();
+			}
+		}
+		return parse(body, containerUrl, resourceClass, requiredProperties);
+	}
+
+	/**
+	 * Create a container from the response to the query returned by
+	 * {@link #getQueryUrl(String)}, e.g. one read through the
+	 * {@link ResourceCache}.
+	 * 
+	 * @param body
+	 *            the RDF/XML of the response
+	 * @param containerUrl
+	 *            the URL of the container
+	 * @param resourceClass
+	 *            the class of the members
+	 * @param requiredProperties
+	 *            the properties a member needs to be used inline
+	 * @return the container
+	 */
+	public static <T extends AbstractResource> BulkContainer<T> parse(final byte[] body, final String containerUrl,
+			final Class<T> resourceClass, final String... requiredProperties) {
+		LdpContainerParser container = LdpContainerParser.parse(new ByteArrayInputStream(body), containerUrl, true);
+		return new BulkContainer<T>(container, getInlineResources(container, resourceClass, requiredProperties));
+	}
+
+	/**
+	 * @param containerUrl
+	 *            the URL of the container
+	 * @return the URL that requests the container with the properties of its
+	 *         members
+	 */
+	public static String getQueryUrl(final String containerUrl) {
+		return getQueryUrl(containerUrl, OSLC_PROPERTIES_ALL);
+	}
+
+	/**
+	 * Get the members returned inline. Only the triples of a member are put
+	 * into a model to create it. A member is only returned if it has the type
+	 * of the resource class and all required properties, otherwise it has to
+	 * be read with its own request.
+	 * 
+	 * @param container
+	 *            the container parsed inline, see
+	 *            {@link LdpContainerParser#parse(InputStream, String, boolean)}
+	 * @param resourceClass
+	 * @param requiredProperties
+	 *            the properties a member needs to be used inline
+	 * @return the members by URI, empty if the server did not return members
+	 *         inline
+	 */
+	static <T extends AbstractResource> Map<String, T> getInlineResources(final LdpContainerParser container,
+			final Class<T> resourceClass, final String... requiredProperties) {
+		Map<String, T> resources = new HashMap<String, T>();
+		Set<String> uris = new LinkedHashSet<String>(container.getMembers());
+		uris.addAll(container.getContainedResources());
+		for (String uri : uris) {
+			List<Triple> properties = container.getProperties(uri);
+			if (!isComplete(properties, resourceClass, requiredProperties)) {
+				continue;
+			}
+			Model model = ModelFactory.createDefaultModel();
+			for (Triple triple : properties) {
+				model.getGraph().add(triple);
+			}
+			try {
+				Object[] found = JenaModelHelper.fromJenaModel(model, resourceClass);
+				if (found != null && found.length == 1) {
+					resources.put(uri, resourceClass.cast(found[0]));
+				}
+			} catch (Exception e) {
+				logger.debug("Unable to read inline resource '{}': '{}'", uri, e.getMessage());
+			}
+		}
+		logger.debug("Found {} of {} resources inline", resources.size(), uris.size());
+		return resources;
+	}
+
+	/**
+	 * @param properties
+	 *            the triples of a member
+	 * @param resourceClass
+	 * @param requiredProperties
+	 * @return true if the member has the type of the resource class and all
+	 *         required properties
+	 */
+	private static boolean isComplete(final List<Triple> properties, final Class<?> resourceClass,
+			final String... requiredProperties) {
+		OslcResourceShape shape = resourceClass.getAnnotation(OslcResourceShape.class);
+		Set<String> types = new HashSet<String>();
+		Set<String> found = new HashSet<String>();
+		for (Triple triple : properties) {
+			String property = triple.getPredicate().getURI();
+			found.add(property);
+			if (OSLCConstants.RDF_TYPE_PROP.equals(property) && triple.getObject().isURI()) {
+				types.add(triple.getObject().getURI());
+			}
+		}
+		if (shape == null || Collections.disjoint(types, Arrays.asList(shape.describes()))) {
+			return false;
+		}
+		return found.containsAll(Arrays.asList(requiredProperties));
+	}
+
+	/**
+	 * @return the URIs of the contained resources with a title, see
+	 *         {@link LdpContainerParser#getContainedResources()}
+	 */
+	public List<String> getContainedResources() {
+		return container.getContainedResources();
+	}
+
+	/**
+	 * @return the URIs of the members, see
+	 *         {@link LdpContainerParser#getMembers()}
+	 */
+	public List<String> getMembers() {
+		return container.getMembers();
+	}
+
+	/**
+	 * @param uri
+	 * @return the member returned inline or null if it has to be read
+	 */
+	public T getResource(final String uri) {
+		return resources.get(uri);
+	}
+
+	/**
+	 * @return the members returned inline by URI
+	 */
+	public Map<String, T> getResources() {
+		return resources;
+	}
+
+	/**
+	 * Add query parameters to a URL.
+	 * 
+	 * @param url
+	 * @param parameters
+	 * @return the URL with the parameters
+	 */
+	static String getQueryUrl(final String url, final String parameters) {
+		return url + (url.contains("?") ? "&" : "?") + parameters;
+	}
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ParallelRequestExecutor.IRequest;
+
+import net.oauth.OAuthException;
+
+/**
+ * Passes the results of requests to a handler as soon as the requests
+ * complete, in the order they complete or, if the window is ordered, in the
+ * order they were submitted. The window limits the number of
+ * requests that are submitted but not yet handled, so only a bounded number of
+ * results is kept in memory, no matter how many requests are submitted.
+ * 
+ * The results are handled in the thread that submits the requests. Submitting
+ * a request into a full window handles completed results until there is room
+ * for the request again.
+ *
+ * @param <R>
+ *            the type of the result
+ */
+public class CompletionWindow<R> {
+
+	/**
+	 * Handles the result of a request.
+	 *
+	 * @param <R>
+	 *            the type of the result
+	 */
+	public interface IResultHandler<R> {
+		/**
+		 * @param result
+		 *            the result of a request, can be null
+		 * @return false to stop handling further results
+		 * @throws IOException
+		 * @throws OAuthException
+		 * @throws URISyntaxException
+		 */
+		boolean handle(R result) throws IOException, OAuthException, URISyntaxException;
+	}
+
+	private final ParallelRequestExecutor executor;
+	private final int size;
+	private final IResultHandler<R> handler;
+	private final boolean ordered;
+	private final BlockingQueue<CompletableFuture<R>> completed = new LinkedBlockingQueue<CompletableFuture<R>>();
+	private final Queue<CompletableFuture<R>> submitted = new ArrayDeque<CompletableFuture<R>>();
+	private int pending = 0;
+	private boolean stopped = false;
+
+	/**
+	 * @param executor
+	 *            the executor to perform the requests with
+	 * @param size
+	 *            the maximal number of requests submitted but not handled
+	 * @param handler
+	 *            handles the results
+	 */
+	public CompletionWindow(final ParallelRequestExecutor executor, final int size, final IResultHandler<R> handler) {
+		this(executor, size, handler, false);
+	}
+
+	/**
+	 * @param executor
+	 *            the executor to perform the requests with
+	 * @param size
+	 *            the maximal number of requests submitted but not handled
+	 * @param handler
+	 *            handles the results
+	 * @param ordered
+	 *            true to handle the results in the order the requests were
+	 *            submitted
+	 */
+	public CompletionWindow(final ParallelRequestExecutor executor, final int size, final IResultHandler<R> handler,
+			final boolean ordered) {
+		this.executor = executor;
+		this.size = Math.max(1, size);
+		this.handler = handler;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Submit a request. Handles completed results first, if the window is
+	 * full.
+	 * 
+	 * @param input
+	 *            the input to perform the request for
+	 * @param request
+	 *            the request to perform
+	 * @return false if the handler stopped, the request is not submitted then
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public <T> boolean submit(final T input, final IRequest<T, R> request)
+			throws IOException, OAuthException, URISyntaxException {
+		while (!stopped && pending >= size) {
+			handleNext();
+		}
+		while (!stopped && hasCompleted()) {
+			handleNext();
+		}
+		if (stopped) {
+			return false;
+		}
+		pending++;
+		final CompletableFuture<R> future = executor.submit(input, request);
+		if (ordered) {
+			submitted.add(future);
+		} else {
+			future.whenComplete((result, exception) -> completed.add(future));
+		}
+		return true;
+	}
+
+	/**
+	 * Handle the results of all submitted requests.
+	 * 
+	 * @return false if the handler stopped
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public boolean finish() throws IOException, OAuthException, URISyntaxException {
+		while (!stopped && pending > 0) {
+			handleNext();
+		}
+		return !stopped;
+	}
+
+	/**
+	 * @return true if the next result can be handled without waiting
+	 */
+	private boolean hasCompleted() {
+		if (ordered) {
+			return !submitted.isEmpty() && submitted.peek().isDone();
+		}
+		return !completed.isEmpty();
+	}
+
+	/**
+	 * Wait for the next completed request and handle its result.
+	 * 
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private void handleNext() throws IOException, OAuthException, URISyntaxException {
+		CompletableFuture<R> future;
+		try {
+			future = ordered ? submitted.remove() : completed.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted waiting for request", e);
+		}
+		pending--;
+		if (!handler.handle(ParallelRequestExecutor.getResult(future))) {
+			stopped = true;
+		}
+	}
+}
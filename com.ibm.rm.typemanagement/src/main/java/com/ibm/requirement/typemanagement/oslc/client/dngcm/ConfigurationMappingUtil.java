@@ -17,9 +17,12 @@ package com.ibm.requirement.typemanagement.oslc.client.dngcm;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 
 import org.eclipse.lyo.client.exception.ResourceNotFoundException;
 import org.eclipse.lyo.client.oslc.jazz.JazzFormAuthClient;
@@ -30,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import com.ibm.requirement.typemanagement.oslc.client.automation.framework.ContainsStringRule;
 import com.ibm.requirement.typemanagement.oslc.client.automation.framework.IRule;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.CsvExportImportInformation;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ParallelRequestExecutor.IRequest;
 import com.ibm.requirement.typemanagement.oslc.client.resources.Changeset;
 import com.ibm.requirement.typemanagement.oslc.client.resources.Component;
 import com.ibm.requirement.typemanagement.oslc.client.resources.Configuration;
@@ -48,6 +52,8 @@ public class ConfigurationMappingUtil {
 	 * 
 	 * @param client
 	 * @param helper
+	 * @param settings
+	 *            controls how the configurations are read
 	 * @param sourceTag
 	 * @param targetTag
 	 * @return
@@ -57,8 +63,8 @@ public class ConfigurationMappingUtil {
 	 * @throws ResourceNotFoundException
 	 */
 	public static List<CsvExportImportInformation> getEditableConfigurationMappingBydescriptionTag(
-			JazzFormAuthClient client, JazzRootServicesHelper helper, String sourceTag, String targetTag)
-			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+			JazzFormAuthClient client, JazzRootServicesHelper helper, CrawlSettings settings, String sourceTag,
+			String targetTag) throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
 		// Get the URL of the OSLC ChangeManagement catalog
 		logger.info("Getting Configurations");
 		String cmCatalogUrl = DngCmUtil.getCmServiceProvider(helper);
@@ -68,8 +74,9 @@ public class ConfigurationMappingUtil {
 		}
 
 		// Get the components and the configurations for the components
-		Collection<Component> components = DngCmUtil.getComponentsForAllProjectAreas(client, cmCatalogUrl);
-		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, components);
+		Collection<Component> components = DngCmUtil.getComponentsForAllProjectAreas(client, settings, cmCatalogUrl);
+		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, settings,
+				components);
 
 		logger.info("Filtering for Configurations");
 		IRule sourceRule = new ContainsStringRule(sourceTag);
@@ -136,6 +143,8 @@ public class ConfigurationMappingUtil {
 	 * 
 	 * @param client
 	 * @param helper
+	 * @param settings
+	 *            controls how the configurations are read
 	 * @param projectAreaName
 	 * @param sourceTag
 	 * @param targetTag
@@ -146,8 +155,9 @@ public class ConfigurationMappingUtil {
 	 * @throws OAuthException
 	 */
 	public static List<CsvExportImportInformation> getEditableConfigurationMappingForProjectAreaByDescriptionTag(
-			JazzFormAuthClient client, JazzRootServicesHelper helper, String projectAreaName, String sourceTag,
-			String targetTag) throws URISyntaxException, ResourceNotFoundException, IOException, OAuthException {
+			JazzFormAuthClient client, JazzRootServicesHelper helper, CrawlSettings settings, String projectAreaName,
+			String sourceTag, String targetTag)
+			throws URISyntaxException, ResourceNotFoundException, IOException, OAuthException {
 		// Get rootservices
 		String catalogUrl = helper.getCatalogUrl();
 		logger.info("Getting Configurations");
@@ -174,9 +184,10 @@ public class ConfigurationMappingUtil {
 		}
 
 		// Get the components and the configurations for the components
-		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, cmCatalogUrl,
+		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, settings, cmCatalogUrl,
 				rmProjectAreaOslcServiceProvider.getProjectAreaId());
-		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, components);
+		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, settings,
+				components);
 
 		logger.info("Filtering for Configurations");
 		IRule sourceRule = new ContainsStringRule(sourceTag);
@@ -242,6 +253,8 @@ public class ConfigurationMappingUtil {
 	 * 
 	 * @param client
 	 * @param helper
+	 * @param settings
+	 *            controls how the configurations are read
 	 * @param projectAreaName
 	 * @return
 	 * @throws URISyntaxException
@@ -250,7 +263,7 @@ public class ConfigurationMappingUtil {
 	 * @throws OAuthException
 	 */
 	public static List<CsvExportImportInformation> getEditableConfigurationsForProjectArea(JazzFormAuthClient client,
-			JazzRootServicesHelper helper, String projectAreaName)
+			JazzRootServicesHelper helper, CrawlSettings settings, String projectAreaName)
 			throws URISyntaxException, ResourceNotFoundException, IOException, OAuthException {
 		// Get the URL of the OSLC ChangeManagement catalog
 		String catalogUrl = helper.getCatalogUrl();
@@ -273,9 +286,10 @@ public class ConfigurationMappingUtil {
 		}
 
 		// Get the components and the configurations for the components
-		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, cmCatalogUrl,
+		Collection<Component> components = DngCmUtil.getComponentsForProjectArea(client, settings, cmCatalogUrl,
 				rmProjectAreaOslcServiceProvider.getProjectAreaId());
-		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, components);
+		Collection<Configuration> configurations = DngCmUtil.getConfigurationsForComponents(client, settings,
+				components);
 		logger.info("Filtering for Streams");
 		List<CsvExportImportInformation> configurationList = getStreams(configurations, projectAreaName);
 		return configurationList;
@@ -315,58 +329,191 @@ public class ConfigurationMappingUtil {
 	public static boolean importConfigurations(JazzFormAuthClient client,
 			List<CsvExportImportInformation> configurations)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
-		boolean totalResult = true;
-		for (CsvExportImportInformation exportImportInformation : configurations) {
-			logger.info("-----------------------------------------------------------------------------");
-			logger.info("Import from '{}' to '{}' ", exportImportInformation.getProjectAreaName(),
-					exportImportInformation.getSource(), exportImportInformation.getTarget());
+		return importConfigurations(client, configurations, 1);
+	}
+
+	/**
+	 * Import Type System changes based on a mapping. Runs the given number of
+	 * rows in parallel. The operations for one row - create change set, import,
+	 * deliver - are performed in order. Source and target configurations shared
+	 * by several rows are read only once.
+	 * 
+	 * @param client
+	 * @param configurations
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean importConfigurations(final JazzFormAuthClient client,
+			List<CsvExportImportInformation> configurations, int threads)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return importConfigurations(client, configurations.iterator(), threads);
+	}
+
+	/**
+	 * Import Type System changes based on a mapping that is read while the
+	 * rows are processed, e.g. from a CSV file. Runs the given number of rows
+	 * in parallel. A row is only read when there is room for it, so the import
+	 * starts with the first row and the mapping is never held in memory as a
+	 * whole.
+	 * 
+	 * @param client
+	 * @param configurations
+	 *            the rows of the mapping
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean importConfigurations(final JazzFormAuthClient client,
+			Iterator<CsvExportImportInformation> configurations, int threads)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return importConfigurations(client, configurations, threads, null);
+	}
+
+	/**
+	 * Import Type System changes based on a mapping that is read while the
+	 * rows are processed, see
+	 * {@link #importConfigurations(JazzFormAuthClient, Iterator, int)}. The
+	 * steps of each row are recorded in the journal. Rows the journal records
+	 * as delivered are skipped, rows that were interrupted continue with the
+	 * change set created before and skip the import, if it was recorded. If
+	 * that change set was delivered already, the row is recorded as delivered
+	 * and skipped.
+	 * 
+	 * @param client
+	 * @param configurations
+	 *            the rows of the mapping
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @param journal
+	 *            the journal of the progress or null
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean importConfigurations(final JazzFormAuthClient client,
+			Iterator<CsvExportImportInformation> configurations, int threads, final ProgressJournal journal)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		checkOperation(journal, ProgressJournal.OPERATION_IMPORT);
+		final ConfigurationResolver resolver = new ConfigurationResolver(client);
+		return processConfigurations("Import", configurations, threads, exportImportInformation -> {
+			try {
+				return importConfiguration(client, resolver, journal, exportImportInformation);
+			} catch (Exception e) {
+				logger.error("Failed to import from '{}' to '{}': {}", exportImportInformation.getSource(),
+						exportImportInformation.getTarget(), e.getMessage());
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Import the Type System changes for one row of a mapping.
+	 * 
+	 * @param client
+	 * @param resolver
+	 *            resolves the source and target configurations
+	 * @param exportImportInformation
+	 * @return true if the import and delivery succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	private static boolean importConfiguration(JazzFormAuthClient client, ConfigurationResolver resolver,
+			ProgressJournal journal, CsvExportImportInformation exportImportInformation)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		logger.info("-----------------------------------------------------------------------------");
+		logger.info("Import from '{}' to '{}' in '{}'", exportImportInformation.getSource(),
+				exportImportInformation.getTarget(), exportImportInformation.getProjectAreaName());
+		String source = exportImportInformation.getSource();
+		String target = exportImportInformation.getTarget();
+		ProgressJournal.Progress progress = getProgress(journal, source, target);
+		if (progress.isDelivered()) {
+			logger.info("Skipped, the journal records the delivery as done.");
+			return true;
+		}
 
-			// Get the source and the target configuration
-			Configuration sourceConfiguration = DngCmUtil.getConfiguration(client, exportImportInformation.getSource());
-			Configuration targetConfiguration = DngCmUtil.getConfiguration(client, exportImportInformation.getTarget());
+		// Get the source and the target configuration
+		Configuration sourceConfiguration = resolver.getConfiguration(source);
+		Configuration targetConfiguration = resolver.getConfiguration(target);
 
+		Boolean operationResult = false;
+		Configuration changeSetConfiguration = null;
+		if (progress.getChangeSet() != null) {
+			// Continue with the change set of the interrupted run
+			changeSetConfiguration = DngCmUtil.getConfiguration(client, progress.getChangeSet());
+			if (changeSetConfiguration == null) {
+				logger.info("Change set '{}' from the journal is not available, creating a new one.",
+						progress.getChangeSet());
+			} else if (changeSetConfiguration.isCommitted()) {
+				// The last run delivered it, but ended before it could record
+				// the delivery
+				logger.info("Skipped, change set '{}' from the journal is already delivered.",
+						progress.getChangeSet());
+				record(journal, ProgressJournal.STEP_DELIVERED, source, target, progress.getChangeSet());
+				return true;
+			} else {
+				logger.info("Using change set '{}' from the journal.", progress.getChangeSet());
+			}
+		}
+		if (changeSetConfiguration == null) {
 			// Create the change set as target for the import.
-			Boolean operationResult = false;
 			Changeset changeSet = new Changeset(client, targetConfiguration);
 			if (changeSet.getAbout() == null) {
 				logger.info("Failed to create change set as import target.");
-				totalResult &= operationResult;
-				continue;
+				return operationResult;
 			}
 			logger.trace("Change set'{}'", changeSet.getAbout().toString());
-			Configuration changeSetConfiguration = DngCmUtil.getConfiguration(client, changeSet.getAbout().toString());
+			record(journal, ProgressJournal.STEP_CHANGESET_CREATED, source, target, changeSet.getAbout().toString());
+			changeSetConfiguration = DngCmUtil.getConfiguration(client, changeSet.getAbout().toString());
 			if (changeSetConfiguration == null) {
-				totalResult &= operationResult;
 				logger.info("Failed to create change set as import target.");
-				continue;
+				return operationResult;
 			}
+		}
+		String changeSetURI = changeSetConfiguration.getAbout().toString();
+		if (progress.isImported() && changeSetURI.equals(progress.getChangeSet())) {
+			logger.info("Skipped the import, the journal records the import into the change set as done.");
+		} else {
 			// Import the type system changes from the source stream into the
 			// change set
 			operationResult = DngCmTypeSystemImportSession.performTypeImport(client, sourceConfiguration,
 					changeSetConfiguration);
 			if (!operationResult) {
-				totalResult &= operationResult;
-				logger.info("Failed to Import into change set '{}'.", changeSetConfiguration.getAbout().toString());
-				continue;
+				logger.info("Failed to Import into change set '{}'.", changeSetURI);
+				return operationResult;
 			}
-			String projectAreaServiceProviderUrl = changeSetConfiguration.getServiceProvider().toString();
-			// Deliver the change set with its changes to the target stream
-			operationResult = DngCmDeliverySession.performDelivery(client, projectAreaServiceProviderUrl,
-					changeSetConfiguration, targetConfiguration);
+			record(journal, ProgressJournal.STEP_IMPORTED, source, target, changeSetURI);
+		}
+		String projectAreaServiceProviderUrl = changeSetConfiguration.getServiceProvider().toString();
+		// Deliver the change set with its changes to the target stream
+		operationResult = DngCmDeliverySession.performDelivery(client, projectAreaServiceProviderUrl,
+				changeSetConfiguration, targetConfiguration);
 
-			if (!operationResult) {
-				totalResult &= operationResult;
-				logger.info("The delivery has failed or there were no differences to deliver!");
-				Boolean deleted = DngCmUtil.discardChangeSet(client, changeSetConfiguration);
-				logger.error("Failed to deliver change set '{}' to stream. '{}'. Changeset discarded: '{}'",
-						changeSetConfiguration.getAbout().toString(), targetConfiguration.getAbout().toString(),
-						deleted.toString());
-				continue;
+		if (!operationResult) {
+			logger.info("The delivery has failed or there were no differences to deliver!");
+			Boolean deleted = DngCmUtil.discardChangeSet(client, changeSetConfiguration);
+			logger.error("Failed to deliver change set '{}' to stream. '{}'. Changeset discarded: '{}'",
+					changeSetURI, targetConfiguration.getAbout().toString(), deleted.toString());
+			if (deleted) {
+				record(journal, ProgressJournal.STEP_CHANGESET_DISCARDED, source, target, changeSetURI);
 			}
-			logger.trace("Result: {}", operationResult.toString());
-			totalResult &= operationResult;
+			return operationResult;
 		}
-		return totalResult;
+		record(journal, ProgressJournal.STEP_DELIVERED, source, target, changeSetURI);
+		logger.trace("Result: {}", operationResult.toString());
+		return operationResult;
 	}
 
 	/**
@@ -383,26 +530,270 @@ public class ConfigurationMappingUtil {
 	public static boolean deliverConfigurations(JazzFormAuthClient client,
 			List<CsvExportImportInformation> configurations)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
-		boolean delivery = true;
-		for (CsvExportImportInformation exportImportInformation : configurations) {
-			logger.info("-----------------------------------------------------------------------------");
-			logger.info("Deliver from '{}' to '{}' ", exportImportInformation.getSource(),
-					exportImportInformation.getTarget());
-
-			// Get the source and the target configuration
-			Configuration sourceConfiguration = DngCmUtil.getConfiguration(client, exportImportInformation.getSource());
-			Configuration targetConfiguration = DngCmUtil.getConfiguration(client, exportImportInformation.getTarget());
-			String projectAreaServiceProviderUrl = targetConfiguration.getServiceProvider().toString();
-			// Deliver
-			Boolean deliverresult = DngCmDeliverySession.performDelivery(client, projectAreaServiceProviderUrl,
-					sourceConfiguration, targetConfiguration);
-			logger.trace("Result: {}", deliverresult.toString());
-			if (!deliverresult) {
-				logger.info("The delivery has failed or there were no differences to deliver!");
+		return deliverConfigurations(client, configurations, 1);
+	}
+
+	/**
+	 * Deliver Type System changes based on a mapping. Runs the given number of
+	 * rows in parallel. Source and target configurations shared by several rows
+	 * are read only once.
+	 * 
+	 * @param client
+	 * @param configurations
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean deliverConfigurations(final JazzFormAuthClient client,
+			List<CsvExportImportInformation> configurations, int threads)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return deliverConfigurations(client, configurations.iterator(), threads);
+	}
+
+	/**
+	 * Deliver Type System changes based on a mapping that is read while the
+	 * rows are processed, e.g. from a CSV file. Runs the given number of rows
+	 * in parallel. A row is only read when there is room for it.
+	 * 
+	 * @param client
+	 * @param configurations
+	 *            the rows of the mapping
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean deliverConfigurations(final JazzFormAuthClient client,
+			Iterator<CsvExportImportInformation> configurations, int threads)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return deliverConfigurations(client, configurations, threads, null);
+	}
+
+	/**
+	 * Deliver Type System changes based on a mapping that is read while the
+	 * rows are processed, see
+	 * {@link #deliverConfigurations(JazzFormAuthClient, Iterator, int)}. The
+	 * deliveries are recorded in the journal. Rows the journal records as
+	 * delivered are skipped.
+	 * 
+	 * @param client
+	 * @param configurations
+	 *            the rows of the mapping
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @param journal
+	 *            the journal of the progress or null
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	public static boolean deliverConfigurations(final JazzFormAuthClient client,
+			Iterator<CsvExportImportInformation> configurations, int threads, final ProgressJournal journal)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		checkOperation(journal, ProgressJournal.OPERATION_DELIVER);
+		final ConfigurationResolver resolver = new ConfigurationResolver(client);
+		return processConfigurations("Delivery", configurations, threads, exportImportInformation -> {
+			try {
+				return deliverConfiguration(client, resolver, journal, exportImportInformation);
+			} catch (Exception e) {
+				logger.error("Failed to deliver from '{}' to '{}': {}", exportImportInformation.getSource(),
+						exportImportInformation.getTarget(), e.getMessage());
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Deliver the Type System changes for one row of a mapping.
+	 * 
+	 * @param client
+	 * @param resolver
+	 *            resolves the source and target configurations
+	 * @param exportImportInformation
+	 * @return true if the delivery succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 */
+	private static boolean deliverConfiguration(JazzFormAuthClient client, ConfigurationResolver resolver,
+			ProgressJournal journal, CsvExportImportInformation exportImportInformation)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		logger.info("-----------------------------------------------------------------------------");
+		logger.info("Deliver from '{}' to '{}' ", exportImportInformation.getSource(),
+				exportImportInformation.getTarget());
+		if (getProgress(journal, exportImportInformation.getSource(), exportImportInformation.getTarget())
+				.isDelivered()) {
+			logger.info("Skipped, the journal records the delivery as done.");
+			return true;
+		}
+
+		// Get the source and the target configuration
+		Configuration sourceConfiguration = resolver.getConfiguration(exportImportInformation.getSource());
+		Configuration targetConfiguration = resolver.getConfiguration(exportImportInformation.getTarget());
+		String projectAreaServiceProviderUrl = targetConfiguration.getServiceProvider().toString();
+		// Deliver
+		Boolean deliverresult = DngCmDeliverySession.performDelivery(client, projectAreaServiceProviderUrl,
+				sourceConfiguration, targetConfiguration);
+		logger.trace("Result: {}", deliverresult.toString());
+		if (!deliverresult) {
+			logger.info("The delivery has failed or there were no differences to deliver!");
+		} else {
+			record(journal, ProgressJournal.STEP_DELIVERED, exportImportInformation.getSource(),
+					exportImportInformation.getTarget(), null);
+		}
+		return deliverresult;
+	}
+
+	/**
+	 * @param journal
+	 *            the journal or null
+	 * @param source
+	 * @param target
+	 * @return the progress recorded in the journal, never null
+	 */
+	private static ProgressJournal.Progress getProgress(ProgressJournal journal, String source, String target) {
+		if (journal == null) {
+			return new ProgressJournal.Progress();
+		}
+		return journal.getProgress(source, target);
+	}
+
+	/**
+	 * Make sure a journal records the operation that is performed, so that
+	 * rows delivered by another operation are not skipped.
+	 * 
+	 * @param journal
+	 *            the journal or null
+	 * @param operation
+	 *            the operation performed
+	 */
+	private static void checkOperation(ProgressJournal journal, String operation) {
+		if (journal != null && !operation.equals(journal.getOperation())) {
+			throw new IllegalArgumentException("The journal records the " + journal.getOperation()
+					+ " operation and can not be used for the " + operation + " operation");
+		}
+	}
+
+	/**
+	 * Record a step in the journal, if there is one.
+	 * 
+	 * @param journal
+	 *            the journal or null
+	 * @param step
+	 * @param source
+	 * @param target
+	 * @param changeSet
+	 * @throws IOException
+	 */
+	private static void record(ProgressJournal journal, String step, String source, String target,
+			String changeSet) throws IOException {
+		if (journal != null) {
+			journal.record(step, source, target, changeSet);
+		}
+	}
+
+	/**
+	 * Perform an operation for each row of a mapping using the given number of
+	 * threads. A row is taken from the iterator only when there is room for it,
+	 * at most twice the number of threads rows are waiting for their operation.
+	 * The outcome of each row is logged in the order of the rows, as soon as it
+	 * is known. Rows without source or target fail without a request.
+	 * 
+	 * @param operation
+	 *            the name of the operation for the log
+	 * @param configurations
+	 *            the rows
+	 * @param threads
+	 *            the number of rows to process in parallel
+	 * @param request
+	 *            performs the operation for a row
+	 * @return true if all rows succeeded
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static boolean processConfigurations(final String operation,
+			final Iterator<CsvExportImportInformation> configurations, final int threads,
+			final IRequest<CsvExportImportInformation, Boolean> request)
+			throws IOException, OAuthException, URISyntaxException {
+		final MappingResults results = new MappingResults(operation);
+		final Queue<CsvExportImportInformation> submitted = new ArrayDeque<CsvExportImportInformation>();
+		ParallelRequestExecutor executor = new ParallelRequestExecutor(threads);
+		try {
+			CompletionWindow<Boolean> window = new CompletionWindow<Boolean>(executor, threads * 2, result -> {
+				results.log(submitted.remove(), result);
+				return true;
+			}, true);
+			int row = 0;
+			while (configurations.hasNext()) {
+				CsvExportImportInformation exportImportInformation = configurations.next();
+				row++;
+				submitted.add(exportImportInformation);
+				if (exportImportInformation.getSource() == null || exportImportInformation.getTarget() == null) {
+					logger.error("{} {} has no source or no target configuration.", operation, row);
+					window.submit(exportImportInformation, invalid -> Boolean.FALSE);
+				} else {
+					window.submit(exportImportInformation, request);
+				}
 			}
-			delivery &= deliverresult;
+			window.finish();
+		} finally {
+			executor.shutdown();
+		}
+		return results.finish();
+	}
+
+	/**
+	 * Logs the outcome of each row and aggregates the result.
+	 */
+	private static class MappingResults {
+		private final String operation;
+		private int rows = 0;
+		private int failed = 0;
+
+		/**
+		 * @param operation
+		 *            the name of the operation for the log
+		 */
+		MappingResults(String operation) {
+			this.operation = operation;
+		}
+
+		/**
+		 * Log the outcome of the next row.
+		 * 
+		 * @param exportImportInformation
+		 *            the row
+		 * @param result
+		 *            the result of the operation for the row
+		 */
+		void log(CsvExportImportInformation exportImportInformation, boolean result) {
+			rows++;
+			if (!result) {
+				failed++;
+			}
+			logger.info("{} {} from '{}' to '{}': {}", operation, rows, exportImportInformation.getSource(),
+					exportImportInformation.getTarget(), result ? "succeeded" : "failed");
+		}
+
+		/**
+		 * @return true if all rows succeeded
+		 */
+		boolean finish() {
+			logger.info("-----------------------------------------------------------------------------");
+			logger.info("{} finished for {} rows, {} failed.", operation, rows, failed);
+			return failed == 0;
 		}
-		return delivery;
 	}
 
 }
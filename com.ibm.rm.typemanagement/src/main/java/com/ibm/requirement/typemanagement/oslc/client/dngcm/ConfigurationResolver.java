@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+import org.eclipse.lyo.client.oslc.jazz.JazzFormAuthClient;
+
+import com.ibm.requirement.typemanagement.oslc.client.resources.Configuration;
+
+import net.oauth.OAuthException;
+
+/**
+ * Resolves configuration URIs for the duration of an operation. Each URI is
+ * read only once, also if several threads ask for it at the same time. This
+ * avoids reading e.g. the source stream shared by all rows of a mapping for
+ * each row.
+ * 
+ * Configurations that are not available are remembered as such. Failed
+ * requests are not remembered and performed again with the next call.
+ *
+ */
+public class ConfigurationResolver {
+
+	private final JazzFormAuthClient client;
+	private final SingleFlightCache<Configuration> configurations = new SingleFlightCache<Configuration>(true);
+
+	/**
+	 * @param client
+	 *            the client to read the configurations with
+	 */
+	public ConfigurationResolver(final JazzFormAuthClient client) {
+		this.client = client;
+	}
+
+	/**
+	 * Get a configuration by its URI.
+	 * 
+	 * @param configurationURI
+	 * @return the configuration or null if it is not available
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public Configuration getConfiguration(final String configurationURI)
+			throws IOException, OAuthException, URISyntaxException {
+		if (configurationURI == null) {
+			return null;
+		}
+		return configurations.get(configurationURI, uri -> DngCmUtil.getConfiguration(client, uri));
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The settings that control how components and configurations are read from
+ * the server by {@link DngCmUtil}. A command creates one instance and passes
+ * it to all the calls that read components and configurations.
+ *
+ */
+public class CrawlSettings {
+
+	// The number of parallel requests used to crawl the server
+	private int crawlThreads = 1;
+
+	// The persistent cache for components and configurations, if any
+	private ResourceCache resourceCache = null;
+
+	// Only descend into containers that changed since the last crawl
+	private boolean incremental = false;
+
+	// Read the members of containers inline with the container
+	private boolean bulkQuery = false;
+
+	// The number of members per container page, 0 to read containers at once
+	private int pageSize = 0;
+
+	/**
+	 * Set the number of parallel requests used to read components and
+	 * configurations from the server.
+	 * 
+	 * @param threads
+	 *            the number of parallel requests, values smaller than 1 result
+	 *            in reading sequentially
+	 */
+	public void setCrawlThreads(final int threads) {
+		crawlThreads = threads < 1 ? 1 : threads;
+	}
+
+	/**
+	 * @return the number of parallel requests used to read components and
+	 *         configurations from the server
+	 */
+	public int getCrawlThreads() {
+		return crawlThreads;
+	}
+
+	/**
+	 * Keep the components and configurations read from the server in a folder
+	 * and revalidate them with the server instead of reading them again.
+	 * 
+	 * @param cacheDirectory
+	 *            the folder to keep the resources in, null to read all
+	 *            resources from the server
+	 * @throws IOException
+	 *             if the folder can not be created
+	 */
+	public void setCacheDirectory(final String cacheDirectory) throws IOException {
+		resourceCache = cacheDirectory == null ? null : new ResourceCache(new File(cacheDirectory));
+	}
+
+	/**
+	 * @return the cache for components and configurations or null if the
+	 *         resources are always read from the server
+	 */
+	public ResourceCache getResourceCache() {
+		return resourceCache;
+	}
+
+	/**
+	 * Crawl incrementally. The components and configurations read in the last
+	 * crawl are kept in the cache together with the ETags of their containers.
+	 * If the server reports a container as not modified, its members are read
+	 * from the cache without further requests. Requires a cache set with
+	 * {@link #setCacheDirectory(String)}.
+	 * 
+	 * @param incrementalCrawl
+	 *            true to only descend into containers that changed
+	 */
+	public void setIncremental(final boolean incrementalCrawl) {
+		incremental = incrementalCrawl;
+	}
+
+	/**
+	 * @return true if only containers that changed since the last crawl are
+	 *         descended into
+	 */
+	public boolean isIncremental() {
+		return incremental && resourceCache != null;
+	}
+
+	/**
+	 * Read the components and configurations with their container. The
+	 * containers are requested with oslc.properties, so that the server
+	 * returns the properties of the members inline. Members that are not
+	 * returned inline are read with their own request. With a cache the
+	 * container is revalidated with this request, and in incremental mode
+	 * only containers that changed are read this way.
+	 * 
+	 * @param bulk
+	 *            true to read the members with their container
+	 */
+	public void setBulkQuery(final boolean bulk) {
+		bulkQuery = bulk;
+	}
+
+	/**
+	 * @return true if the members are read with their container
+	 */
+	public boolean isBulkQuery() {
+		return bulkQuery;
+	}
+
+	/**
+	 * Read the component and configuration containers page by page. The
+	 * members of a page are read while the next page is requested. Paged
+	 * containers are always read from the server, also in incremental mode.
+	 * 
+	 * @param size
+	 *            the number of members per page, values smaller than 1 read
+	 *            the containers with one request
+	 */
+	public void setPageSize(final int size) {
+		pageSize = size < 1 ? 0 : size;
+	}
+
+	/**
+	 * @return the number of members per container page or 0 if containers are
+	 *         read with one request
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+}
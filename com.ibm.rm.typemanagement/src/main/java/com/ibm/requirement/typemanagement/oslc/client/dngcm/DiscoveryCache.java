@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.lyo.client.exception.ResourceNotFoundException;
+import org.eclipse.lyo.client.oslc.OslcClient;
+import org.eclipse.lyo.oslc4j.core.model.CreationFactory;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ParallelRequestExecutor.IRequest;
+
+import net.oauth.OAuthException;
+
+/**
+ * Keeps the discovery documents read for a client, so that they are only read
+ * once per session. The discovery chain from the configuration management
+ * catalog to the service provider and its component creation factories does
+ * not change while a command runs. The same applies to the creation factories
+ * of the project area service providers.
+ * 
+ * The cache of a client is dropped when the client is no longer used.
+ *
+ */
+public class DiscoveryCache {
+
+	private static final Map<OslcClient, DiscoveryCache> instances = new WeakHashMap<OslcClient, DiscoveryCache>();
+
+	private final SingleFlightCache<ServiceProvider> cmProviders = new SingleFlightCache<ServiceProvider>(false);
+	private final SingleFlightCache<HashMap<String, String>> componentFactories = new SingleFlightCache<HashMap<String, String>>(
+			false);
+	private final SingleFlightCache<String> creationFactoryUrls = new SingleFlightCache<String>(false);
+	private final SingleFlightCache<CreationFactory> creationFactories = new SingleFlightCache<CreationFactory>(false);
+
+	/**
+	 * Get the cache for a client.
+	 * 
+	 * @param client
+	 * @return the cache, never null
+	 */
+	public static DiscoveryCache getInstance(final OslcClient client) {
+		synchronized (instances) {
+			DiscoveryCache instance = instances.get(client);
+			if (instance == null) {
+				instance = new DiscoveryCache();
+				instances.put(client, instance);
+			}
+			return instance;
+		}
+	}
+
+	private DiscoveryCache() {
+		super();
+	}
+
+	/**
+	 * Get the configuration management service provider of a catalog.
+	 * 
+	 * @param catalogUrl
+	 *            the URL of the configuration management catalog
+	 * @param request
+	 *            reads the service provider if it was not read yet
+	 * @return the service provider or null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public ServiceProvider getCmProvider(final String catalogUrl, final IRequest<String, ServiceProvider> request)
+			throws IOException, OAuthException, URISyntaxException {
+		return cmProviders.get(catalogUrl, request);
+	}
+
+	/**
+	 * Get the component creation factories of a configuration management
+	 * service provider by project area ID.
+	 * 
+	 * @param providerUrl
+	 *            the URL of the configuration management service provider
+	 * @param request
+	 *            reads the factories if they were not read yet
+	 * @return a copy of the factories or null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public HashMap<String, String> getComponentFactories(final String providerUrl,
+			final IRequest<String, HashMap<String, String>> request)
+			throws IOException, OAuthException, URISyntaxException {
+		HashMap<String, String> factories = componentFactories.get(providerUrl, request);
+		if (factories == null) {
+			return null;
+		}
+		return new HashMap<String, String>(factories);
+	}
+
+	/**
+	 * Get the URL of a creation factory of a service provider. The service
+	 * provider document is only read for the first lookup of a resource type.
+	 * 
+	 * @param client
+	 * @param serviceProviderUrl
+	 * @param oslcDomain
+	 * @param oslcResourceType
+	 * @return the URL of the creation factory
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 *             if the service provider has no creation factory for the
+	 *             resource type
+	 */
+	public String lookupCreationFactory(final OslcClient client, final String serviceProviderUrl,
+			final String oslcDomain, final String oslcResourceType)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		String creationFactory = creationFactoryUrls.get(
+				getKey(serviceProviderUrl, oslcDomain, oslcResourceType, null), key -> {
+					try {
+						return client.lookupCreationFactory(serviceProviderUrl, oslcDomain, oslcResourceType);
+					} catch (ResourceNotFoundException e) {
+						return null;
+					}
+				});
+		if (creationFactory == null) {
+			throw new ResourceNotFoundException(serviceProviderUrl, oslcResourceType);
+		}
+		return creationFactory;
+	}
+
+	/**
+	 * Get a creation factory of a service provider. The service provider
+	 * document is only read for the first lookup of a resource type.
+	 * 
+	 * @param client
+	 * @param serviceProviderUrl
+	 * @param oslcDomain
+	 * @param oslcResourceType
+	 * @param oslcUsage
+	 * @return the creation factory
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 * @throws ResourceNotFoundException
+	 *             if the service provider has no creation factory for the
+	 *             resource type
+	 */
+	public CreationFactory lookupCreationFactoryResource(final OslcClient client, final String serviceProviderUrl,
+			final String oslcDomain, final String oslcResourceType, final String oslcUsage)
+			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		CreationFactory creationFactory = creationFactories.get(
+				getKey(serviceProviderUrl, oslcDomain, oslcResourceType, oslcUsage), key -> {
+					try {
+						return client.lookupCreationFactoryResource(serviceProviderUrl, oslcDomain, oslcResourceType,
+								oslcUsage);
+					} catch (ResourceNotFoundException e) {
+						return null;
+					}
+				});
+		if (creationFactory == null) {
+			throw new ResourceNotFoundException(serviceProviderUrl, oslcResourceType);
+		}
+		return creationFactory;
+	}
+
+	private static String getKey(final String serviceProviderUrl, final String oslcDomain,
+			final String oslcResourceType, final String oslcUsage) {
+		return serviceProviderUrl + " " + oslcDomain + " " + oslcResourceType + " " + oslcUsage;
+	}
+}
@@ -15,20 +15,19 @@
  *******************************************************************************/
 package com.ibm.requirement.typemanagement.oslc.client.dngcm;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.SimpleSelector;
-import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.wink.client.ClientResponse;
 import org.eclipse.lyo.client.exception.ResourceNotFoundException;
 import org.eclipse.lyo.client.oslc.OSLCConstants;
@@ -56,6 +55,50 @@ public class DngCmUtil {
 
 	public static final Logger logger = LoggerFactory.getLogger(DngCmUtil.class);
 
+	// The properties a component or configuration needs to be used inline
+	private static final String[] COMPONENT_PROPERTIES = {
+			OSLCConstants.DC + DngTypeSystemManagementConstants.DC_PROPERTY_NAME_TITLE,
+			DngTypeSystemManagementConstants.CONFIGUTATION_MANAGEMENT_NAMESPACE
+					+ DngTypeSystemManagementConstants.CONFIGUTATION_MANAGEMENT_PROPERTY_CONFIGURATIONS };
+	private static final String[] CONFIGURATION_PROPERTIES = {
+			OSLCConstants.DC + DngTypeSystemManagementConstants.DC_PROPERTY_NAME_TITLE,
+			DngTypeSystemManagementConstants.CONFIGUTATION_MANAGEMENT_NAMESPACE + "component" };
+
+	/**
+	 * The configurations listed by the configuration container of a
+	 * component.
+	 */
+	private static class ConfigurationMembers {
+		private final List<String> configurationURIs;
+		private final boolean unchanged;
+		private final Map<String, Configuration> inline;
+
+		ConfigurationMembers(final List<String> configurationURIs, final boolean unchanged) {
+			this(configurationURIs, unchanged, Collections.<String, Configuration> emptyMap());
+		}
+
+		ConfigurationMembers(final List<String> configurationURIs, final boolean unchanged,
+				final Map<String, Configuration> inline) {
+			this.configurationURIs = configurationURIs;
+			this.unchanged = unchanged;
+			this.inline = inline;
+		}
+	}
+
+	/**
+	 * Handles the members of a configuration container or of a page of it.
+	 */
+	private interface IMembersHandler {
+		/**
+		 * @param members
+		 * @return false to stop reading further pages
+		 * @throws IOException
+		 * @throws OAuthException
+		 * @throws URISyntaxException
+		 */
+		boolean handle(ConfigurationMembers members) throws IOException, OAuthException, URISyntaxException;
+	}
+
 	/**
 	 * Gets the RM CM Configuration Service Provider from the rootservices
 	 * document. E.g. URI looks like https://clm.example.com:9443/rm/oslc_config
@@ -114,7 +157,8 @@ public class DngCmUtil {
 
 	/**
 	 * Finds the project area configuration management component creation
-	 * factories.
+	 * factories. The factories are read once per client, see
+	 * {@link DiscoveryCache}.
 	 * 
 	 * @see https://clm.example.com:9443/rm/cm/component/ldpc?project=_5i4eMKYbEei-7e3SSZvGSg
 	 * 
@@ -129,6 +173,23 @@ public class DngCmUtil {
 	public static HashMap<String, String> getCmOslcLDPComponentCreationFactories(final JazzFormAuthClient client,
 			final ServiceProvider rmCmService)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return DiscoveryCache.getInstance(client).getComponentFactories(rmCmService.getAbout().toString(),
+				providerUrl -> readCmOslcLDPComponentCreationFactories(client, rmCmService));
+	}
+
+	/**
+	 * Reads the project area configuration management component creation
+	 * factories from the server.
+	 * 
+	 * @param client
+	 * @param rmCmService
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static HashMap<String, String> readCmOslcLDPComponentCreationFactories(final JazzFormAuthClient client,
+			final ServiceProvider rmCmService) throws IOException, OAuthException, URISyntaxException {
 		HashMap<String, String> cmProviders = new HashMap<String, String>();
 		ClientResponse response = null;
 		try {
@@ -143,19 +204,9 @@ public class DngCmUtil {
 				response.consumeContent();
 				return null;
 			}
-			Model rdfModel = ModelFactory.createDefaultModel();
 			InputStream input = response.getEntity(InputStream.class);
-			rdfModel.read(input, "");
-			StmtIterator statements = rdfModel
-					.listStatements(
-							new SimpleSelector(null,
-									rdfModel.getProperty(OSLCConstants.OSLC_V2,
-											DngTypeSystemManagementConstants.CM_PROVIDER_CREATION_FACTORY),
-									(RDFNode) null));
-			while (statements.hasNext()) {
-
-				Statement statement = statements.next();
-				String url = statement.getObject().toString();
+			LdpContainerParser container = LdpContainerParser.parse(input, rmCmService.getAbout().toString());
+			for (String url : container.getCreationFactories()) {
 				String[] values = url.split("project=");
 				if (values.length > 1) {
 					cmProviders.put(values[1], url);
@@ -195,7 +246,8 @@ public class DngCmUtil {
 	 *      This service provider allows access to resource states and component
 	 *      access for configuration aware projects.
 	 * 
-	 * 
+	 *      The service provider is read once per client, see
+	 *      {@link DiscoveryCache}.
 	 * 
 	 * @param client
 	 * @param catalogUrl
@@ -207,6 +259,22 @@ public class DngCmUtil {
 	 */
 	public static ServiceProvider getRmCmOslcProvider(final JazzFormAuthClient client, final String catalogUrl)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
+		return DiscoveryCache.getInstance(client).getCmProvider(catalogUrl,
+				url -> readRmCmOslcProvider(client, url));
+	}
+
+	/**
+	 * Reads the OSLC Configuration service provider from the catalog.
+	 * 
+	 * @param client
+	 * @param catalogUrl
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static ServiceProvider readRmCmOslcProvider(final JazzFormAuthClient client, final String catalogUrl)
+			throws IOException, OAuthException, URISyntaxException {
 		final ServiceProviderCatalog catalog = getServiceProviderCatalog(client, catalogUrl);
 		if (catalog == null) {
 			return null;
@@ -300,19 +368,60 @@ public class DngCmUtil {
 	 * explore and implement the real query mechanism e.g. to only query streams
 	 * if possible
 	 * 
+	 * The components are read using the number of parallel requests set with
+	 * {@link CrawlSettings#setCrawlThreads(int)}. The result is in the order
+	 * the components are listed by the container. Components that can not be
+	 * read are skipped with a warning.
+	 * 
 	 * @see https://clm.example.com:9443/rm/cm/component/ldpc?project=_5i4eMKYbEei-7e3SSZvGSg
 	 * 
 	 * 
 	 * @param client
+	 * @param settings
 	 * @param componentQuery
 	 * @return A collection, never null
 	 * @throws IOException
 	 * @throws OAuthException
 	 * @throws URISyntaxException
 	 */
-	public static Collection<Component> getComponents(final JazzFormAuthClient client, final String componentQuery)
-			throws IOException, OAuthException, URISyntaxException {
+	public static Collection<Component> getComponents(final JazzFormAuthClient client, final CrawlSettings settings,
+			final String componentQuery) throws IOException, OAuthException, URISyntaxException {
+		if (settings.getPageSize() > 0) {
+			return getComponentsPaged(client, settings, componentQuery);
+		}
 		Collection<Component> foundComponents = new ArrayList<Component>();
+		if (settings.isBulkQuery() && settings.getResourceCache() == null) {
+			Collection<Component> components = getComponentsInline(client, settings, componentQuery);
+			if (components != null) {
+				return components;
+			}
+		}
+		final ResourceCache resourceCache = settings.getResourceCache();
+		if (resourceCache != null) {
+			// In bulk mode the bulk query is revalidated, so a modified
+			// container is only read once
+			ResourceCache.Entry container = resourceCache.getEntry(client,
+					settings.isBulkQuery() ? BulkContainer.getQueryUrl(componentQuery) : componentQuery);
+			if (container == null) {
+				return foundComponents;
+			}
+			final boolean unchanged = settings.isIncremental() && !container.isModified();
+			if (unchanged) {
+				logger.debug("Components unchanged since last crawl '{}'.", componentQuery);
+			} else if (settings.isBulkQuery()) {
+				return getComponentsInline(client, settings, BulkContainer.parse(container.getBody(), componentQuery,
+						Component.class, COMPONENT_PROPERTIES));
+			}
+			List<String> componentURIs = LdpContainerParser
+					.parse(new ByteArrayInputStream(container.getBody()), componentQuery).getContainedResources();
+			List<Component> components = ParallelRequestExecutor.executeOrdered(componentURIs,
+					settings.getCrawlThreads(),
+					componentURI -> unchanged ? getStoredComponent(client, settings, componentURI)
+							: getComponent(client, settings, componentURI));
+			addFoundComponents(foundComponents, componentURIs, components);
+			return foundComponents;
+		}
+		List<String> componentURIs = new ArrayList<String>();
 		ClientResponse response = null;
 		try {
 			response = client.getResource(componentQuery, OslcMediaType.RDF_XML);
@@ -326,45 +435,173 @@ public class DngCmUtil {
 				response.consumeContent();
 				return foundComponents;
 			}
-			Model model = ModelFactory.createDefaultModel();
 			InputStream input = response.getEntity(InputStream.class);
-			model.read(input, null);
-
-			StmtIterator statements = model.listStatements(new SimpleSelector(null,
-					model.getProperty(DngTypeSystemManagementConstants.CM_LINKED_DATA_PLATFORM_CONTAINER_NAMESPACE,
-							DngTypeSystemManagementConstants.PROPERTY_NAME_LDP_CONTAINS_PROPERTY_NAME),
-					(RDFNode) null));
-			while (statements.hasNext()) {
-				Statement stmt = statements.next();
-				StmtIterator components = model.listStatements(new SimpleSelector(stmt.getObject().asResource(),
-						model.getProperty(OSLCConstants.DC, DngTypeSystemManagementConstants.DC_PROPERTY_NAME_TITLE),
-						(RDFNode) null));
-				while (components.hasNext()) {
-					Statement component = components.next();
-					Component foundComp = getComponent(client, component.getSubject().toString());
-					foundComponents.add(foundComp);
-				}
-			}
+			componentURIs = LdpContainerParser.parse(input, componentQuery).getContainedResources();
 		} finally {
 			if (response != null) {
 				response.consumeContent();
 			}
 		}
+		List<Component> components = ParallelRequestExecutor.executeOrdered(componentURIs,
+				settings.getCrawlThreads(), componentURI -> getComponent(client, settings, componentURI));
+		addFoundComponents(foundComponents, componentURIs, components);
 		return foundComponents;
 	}
 
 	/**
-	 * Get a component by its URI
+	 * Add the components that could be read. Components that could not be
+	 * read, e.g. because they were deleted while the container was read, are
+	 * skipped with a warning.
+	 * 
+	 * @param foundComponents
+	 *            the collection to add the components to
+	 * @param componentURIs
+	 *            the URIs of the components
+	 * @param components
+	 *            the components read for the URIs, null if a component could
+	 *            not be read
+	 */
+	private static void addFoundComponents(final Collection<Component> foundComponents,
+			final List<String> componentURIs, final List<Component> components) {
+		for (int i = 0; i < components.size(); i++) {
+			Component component = components.get(i);
+			if (component == null) {
+				logger.warn("Unable to read component '{}', skipping it.", componentURIs.get(i));
+			} else {
+				foundComponents.add(component);
+			}
+		}
+	}
+
+	/**
+	 * Get the components of a container page by page. The components of a
+	 * page are read while the next page is requested.
 	 * 
 	 * @param client
+	 * @param settings
+	 * @param componentQuery
+	 * @return A collection, never null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static Collection<Component> getComponentsPaged(final JazzFormAuthClient client,
+			final CrawlSettings settings, final String componentQuery)
+			throws IOException, OAuthException, URISyntaxException {
+		Collection<Component> foundComponents = new ArrayList<Component>();
+		final ParallelRequestExecutor executor = new ParallelRequestExecutor(settings.getCrawlThreads());
+		try {
+			final List<CompletableFuture<List<Component>>> pages = new ArrayList<CompletableFuture<List<Component>>>();
+			final List<List<String>> pageURIs = new ArrayList<List<String>>();
+			PagedContainerReader.read(client, componentQuery, settings.getPageSize(), settings.isBulkQuery(),
+					page -> {
+						final Map<String, Component> inline = settings.isBulkQuery()
+								? BulkContainer.getInlineResources(page, Component.class, COMPONENT_PROPERTIES)
+								: Collections.<String, Component> emptyMap();
+						pageURIs.add(page.getContainedResources());
+						pages.add(executor.submitAll(page.getContainedResources(), componentURI -> {
+							Component component = inline.get(componentURI);
+							return component != null ? component : getComponent(client, settings, componentURI);
+						}));
+						return true;
+					});
+			for (int i = 0; i < pages.size(); i++) {
+				addFoundComponents(foundComponents, pageURIs.get(i), ParallelRequestExecutor.getResult(pages.get(i)));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return foundComponents;
+	}
+
+	/**
+	 * Get the components of a container with their properties inline, see
+	 * {@link CrawlSettings#setBulkQuery(boolean)}.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param componentQuery
+	 * @return the components or null if the container could not be read
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static Collection<Component> getComponentsInline(final JazzFormAuthClient client,
+			final CrawlSettings settings, final String componentQuery)
+			throws IOException, OAuthException, URISyntaxException {
+		final BulkContainer<Component> container = BulkContainer.read(client, componentQuery, Component.class,
+				COMPONENT_PROPERTIES);
+		if (container == null) {
+			return null;
+		}
+		return getComponentsInline(client, settings, container);
+	}
+
+	/**
+	 * Get the components of a container read with their properties inline.
+	 * Components that were not returned inline are read with their own
+	 * request.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param container
+	 * @return A collection, never null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static Collection<Component> getComponentsInline(final JazzFormAuthClient client,
+			final CrawlSettings settings, final BulkContainer<Component> container)
+			throws IOException, OAuthException, URISyntaxException {
+		List<Component> components = ParallelRequestExecutor.executeOrdered(container.getContainedResources(),
+				settings.getCrawlThreads(), componentURI -> {
+					Component component = container.getResource(componentURI);
+					return component != null ? component : getComponent(client, settings, componentURI);
+				});
+		Collection<Component> foundComponents = new ArrayList<Component>();
+		addFoundComponents(foundComponents, container.getContainedResources(), components);
+		return foundComponents;
+	}
+
+	/**
+	 * Get a component from the cache, or from the server if it is not in the
+	 * cache.
+	 * 
+	 * @param client
+	 * @param settings
 	 * @param componentURI
 	 * @return
 	 * @throws IOException
 	 * @throws OAuthException
 	 * @throws URISyntaxException
 	 */
-	public static Component getComponent(final JazzFormAuthClient client, final String componentURI)
-			throws IOException, OAuthException, URISyntaxException {
+	private static Component getStoredComponent(final JazzFormAuthClient client, final CrawlSettings settings,
+			final String componentURI) throws IOException, OAuthException, URISyntaxException {
+		Component component = settings.getResourceCache().getStoredResource(componentURI, Component.class);
+		if (component == null) {
+			return getComponent(client, settings, componentURI);
+		}
+		return component;
+	}
+
+	/**
+	 * Get a component by its URI. Uses the cache, if one is set with
+	 * {@link CrawlSettings#setCacheDirectory(String)}.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param componentURI
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static Component getComponent(final JazzFormAuthClient client, final CrawlSettings settings,
+			final String componentURI) throws IOException, OAuthException, URISyntaxException {
+		final ResourceCache resourceCache = settings.getResourceCache();
+		if (resourceCache != null) {
+			return resourceCache.getResource(client, componentURI, Component.class);
+		}
 		Component foundComp = null;
 		ClientResponse response = null;
 		try {
@@ -392,17 +629,197 @@ public class DngCmUtil {
 	 * Get all the configurations for a component
 	 * 
 	 * @param client
+	 * @param settings
 	 * @param component
 	 * @return
 	 * @throws IOException
 	 * @throws OAuthException
 	 * @throws URISyntaxException
 	 */
-	@SuppressWarnings("deprecation")
 	public static Collection<Configuration> getComponentConfigurations(final JazzFormAuthClient client,
-			final Component component) throws IOException, OAuthException, URISyntaxException {
-		Collection<Configuration> foundConfigurations = new ArrayList<Configuration>();
+			final CrawlSettings settings, final Component component)
+			throws IOException, OAuthException, URISyntaxException {
+		return getConfigurationsForComponents(client, settings, Collections.singletonList(component));
+	}
+
+	/**
+	 * Read all the configurations for a component and pass each configuration
+	 * to the handler as soon as it is read, in the order the requests
+	 * complete. The configurations are read using the number of parallel
+	 * requests set with {@link CrawlSettings#setCrawlThreads(int)}. Only a
+	 * small number of configurations is read ahead of the handler, so the
+	 * memory used does not depend on the number of configurations of the
+	 * component.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param component
+	 * @param handler
+	 *            handles each configuration, returns false to stop reading
+	 * @return false if the handler stopped reading
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static boolean readComponentConfigurations(final JazzFormAuthClient client, final CrawlSettings settings,
+			final Component component, final CompletionWindow.IResultHandler<Configuration> handler)
+			throws IOException, OAuthException, URISyntaxException {
+		return readComponentConfigurations(client, settings, component, handler, false);
+	}
+
+	/**
+	 * Read all the configurations for a component and pass each configuration
+	 * to the handler as soon as it is read, see
+	 * {@link #readComponentConfigurations(JazzFormAuthClient, CrawlSettings, Component,
+	 * CompletionWindow.IResultHandler)}.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param component
+	 * @param handler
+	 *            handles each configuration, returns false to stop reading
+	 * @param ordered
+	 *            true to pass the configurations in the order of the
+	 *            configuration container
+	 * @return false if the handler stopped reading
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static boolean readComponentConfigurations(final JazzFormAuthClient client, final CrawlSettings settings,
+			final Component component, final CompletionWindow.IResultHandler<Configuration> handler,
+			final boolean ordered) throws IOException, OAuthException, URISyntaxException {
+		final ParallelRequestExecutor executor = new ParallelRequestExecutor(settings.getCrawlThreads());
+		try {
+			return readComponentConfigurations(client, settings, executor, component, handler, ordered);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Read all the configurations for a component with an executor that is
+	 * shared e.g. by several components read at the same time, see
+	 * {@link #readComponentConfigurations(JazzFormAuthClient, CrawlSettings, Component,
+	 * CompletionWindow.IResultHandler, boolean)}. The executor is not shut
+	 * down.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param executor
+	 *            the executor to read the configurations with
+	 * @param component
+	 * @param handler
+	 *            handles each configuration, returns false to stop reading
+	 * @param ordered
+	 *            true to pass the configurations in the order of the
+	 *            configuration container
+	 * @return false if the handler stopped reading
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static boolean readComponentConfigurations(final JazzFormAuthClient client, final CrawlSettings settings,
+			final ParallelRequestExecutor executor, final Component component,
+			final CompletionWindow.IResultHandler<Configuration> handler, final boolean ordered)
+			throws IOException, OAuthException, URISyntaxException {
+		final CompletionWindow<Configuration> window = new CompletionWindow<Configuration>(executor,
+				settings.getCrawlThreads() * 2, configuration -> {
+					if (configuration == null) {
+						return true;
+					}
+					configuration.setComponentName(component.getTitle());
+					return handler.handle(configuration);
+				}, ordered);
+		readConfigurationMembers(client, settings, component,
+				members -> submitMemberConfigurations(client, settings, window, members));
+		return window.finish();
+	}
+
+	/**
+	 * Submit reading the configurations listed by a configuration container.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param window
+	 * @param members
+	 * @return false if the handler of the window stopped reading
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static boolean submitMemberConfigurations(final JazzFormAuthClient client, final CrawlSettings settings,
+			final CompletionWindow<Configuration> window, final ConfigurationMembers members)
+			throws IOException, OAuthException, URISyntaxException {
+		for (String configurationURI : members.configurationURIs) {
+			if (!window.submit(configurationURI, uri -> getMemberConfiguration(client, settings, members, uri))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the URIs of all the configurations for a component
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param component
+	 * @return A list, never null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static List<String> getComponentConfigurationURIs(final JazzFormAuthClient client,
+			final CrawlSettings settings, final Component component)
+			throws IOException, OAuthException, URISyntaxException {
+		return getConfigurationMembers(client, settings, component).configurationURIs;
+	}
+
+	/**
+	 * Get the URIs of all the configurations for a component and whether the
+	 * configuration container changed since the last crawl.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param component
+	 * @return the members, never null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static ConfigurationMembers getConfigurationMembers(final JazzFormAuthClient client,
+			final CrawlSettings settings, final Component component)
+			throws IOException, OAuthException, URISyntaxException {
 		final String configurations = component.getConfigurations().toString();
+		if (settings.isBulkQuery() && settings.getResourceCache() == null) {
+			ConfigurationMembers members = getConfigurationMembersInline(client, settings, configurations);
+			if (members != null) {
+				return members;
+			}
+		}
+		final ResourceCache resourceCache = settings.getResourceCache();
+		if (resourceCache != null) {
+			// In bulk mode the bulk query is revalidated, so a modified
+			// container is only read once
+			ResourceCache.Entry container = resourceCache.getEntry(client,
+					settings.isBulkQuery() ? BulkContainer.getQueryUrl(configurations) : configurations);
+			if (container == null) {
+				return new ConfigurationMembers(new ArrayList<String>(), false);
+			}
+			final boolean unchanged = settings.isIncremental() && !container.isModified();
+			if (unchanged) {
+				logger.debug("Configurations unchanged since last crawl '{}'.", configurations);
+			} else if (settings.isBulkQuery()) {
+				BulkContainer<Configuration> members = BulkContainer.parse(container.getBody(), configurations,
+						Configuration.class, CONFIGURATION_PROPERTIES);
+				return new ConfigurationMembers(members.getMembers(), false, members.getResources());
+			}
+			List<String> configurationURIs = LdpContainerParser
+					.parse(new ByteArrayInputStream(container.getBody()), configurations).getMembers();
+			return new ConfigurationMembers(configurationURIs, unchanged);
+		}
+		List<String> foundConfigurations = new ArrayList<String>();
 		ClientResponse response = null;
 		try {
 			response = client.getResource(configurations, OslcMediaType.RDF_XML);
@@ -413,30 +830,176 @@ public class DngCmUtil {
 			default:
 				logger.trace("Unexpected return code. Session '{}'.", configurations);
 				response.consumeContent();
-				return foundConfigurations;
+				return new ConfigurationMembers(foundConfigurations, false);
 			}
-			Model rdfModel = ModelFactory.createDefaultModel();
 			InputStream input = response.getEntity(InputStream.class);
-			rdfModel.read(input, "");
-			StmtIterator statements = rdfModel.listStatements(new SimpleSelector(null,
-					rdfModel.getProperty(OSLCConstants.RDFS, DngTypeSystemManagementConstants.RDF_PROPERTY_MEMBER_NAME),
-					(RDFNode) null));
-			while (statements.hasNext()) {
-				Statement stmt = statements.next();
-				String config = stmt.getObject().toString();
-				logger.trace("Configuration: '{}'", config);
-				Configuration foundConfiguration = getConfiguration(client, config);
-				if (foundConfiguration != null) {
-					foundConfiguration.setComponentName(component.getTitle());
-					foundConfigurations.add(foundConfiguration);
-				}
-			}
+			foundConfigurations = LdpContainerParser.parse(input, configurations).getMembers();
 		} finally {
 			if (response != null) {
 				response.consumeContent();
 			}
 		}
-		return foundConfigurations;
+		return new ConfigurationMembers(foundConfigurations, false);
+	}
+
+	/**
+	 * Get the configurations of a configuration container with their
+	 * properties inline, see {@link CrawlSettings#setBulkQuery(boolean)}.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param configurations
+	 *            the URL of the configuration container
+	 * @return the members or null if the container could not be read
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static ConfigurationMembers getConfigurationMembersInline(final JazzFormAuthClient client,
+			final CrawlSettings settings, final String configurations)
+			throws IOException, OAuthException, URISyntaxException {
+		BulkContainer<Configuration> container = BulkContainer.read(client, configurations, Configuration.class,
+				CONFIGURATION_PROPERTIES);
+		if (container == null) {
+			return null;
+		}
+		return new ConfigurationMembers(container.getMembers(), false, container.getResources());
+	}
+
+	/**
+	 * Read the configuration container of a component and pass its members to
+	 * the handler. If a page size is set, the container is read page by page
+	 * and the members of each page are passed as soon as the page is read, so
+	 * they can be read while the next page is requested.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param component
+	 * @param handler
+	 *            handles the members of the container or of a page, returns
+	 *            false to stop reading further pages
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static void readConfigurationMembers(final JazzFormAuthClient client, final CrawlSettings settings,
+			final Component component, final IMembersHandler handler)
+			throws IOException, OAuthException, URISyntaxException {
+		if (settings.getPageSize() <= 0) {
+			handler.handle(getConfigurationMembers(client, settings, component));
+			return;
+		}
+		final String configurations = component.getConfigurations().toString();
+		PagedContainerReader.read(client, configurations, settings.getPageSize(), settings.isBulkQuery(),
+				page -> handler.handle(new ConfigurationMembers(page.getMembers(), false,
+						settings.isBulkQuery()
+								? BulkContainer.getInlineResources(page, Configuration.class, CONFIGURATION_PROPERTIES)
+								: Collections.<String, Configuration> emptyMap())));
+	}
+
+	/**
+	 * Read the configuration container of a component and submit reading the
+	 * configurations as soon as their container, or page of it, is read.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param executor
+	 *            the executor to read the configurations with
+	 * @param component
+	 * @return the future configurations in the order of the container
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static CompletableFuture<List<Configuration>> submitComponentConfigurations(
+			final JazzFormAuthClient client, final CrawlSettings settings, final ParallelRequestExecutor executor,
+			final Component component) throws IOException, OAuthException, URISyntaxException {
+		final List<CompletableFuture<List<Configuration>>> pages = new ArrayList<CompletableFuture<List<Configuration>>>();
+		readConfigurationMembers(client, settings, component, members -> {
+			pages.add(executor.submitAll(members.configurationURIs,
+					configurationURI -> getMemberConfiguration(client, settings, members, configurationURI)));
+			return true;
+		});
+		return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[pages.size()])).thenApply(v -> {
+			List<Configuration> result = new ArrayList<Configuration>();
+			for (CompletableFuture<List<Configuration>> page : pages) {
+				result.addAll(page.join());
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Get a configuration listed by a configuration container. Uses the
+	 * configuration returned inline or stored in the cache, if available.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param members
+	 * @param config
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static Configuration getMemberConfiguration(final JazzFormAuthClient client, final CrawlSettings settings,
+			final ConfigurationMembers members, final String config)
+			throws IOException, OAuthException, URISyntaxException {
+		Configuration configuration = members.inline.get(config);
+		if (configuration != null) {
+			return configuration;
+		}
+		if (members.unchanged) {
+			return getStoredConfiguration(client, settings, config);
+		}
+		return getConfiguration(client, settings, config);
+	}
+
+	/**
+	 * Get a configuration from the cache, or from the server if it is not in
+	 * the cache.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param config
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private static Configuration getStoredConfiguration(final JazzFormAuthClient client, final CrawlSettings settings,
+			final String config) throws IOException, OAuthException, URISyntaxException {
+		Configuration configuration = settings.getResourceCache().getStoredResource(config, Configuration.class);
+		if (configuration == null) {
+			return getConfiguration(client, settings, config);
+		}
+		return configuration;
+	}
+
+	/**
+	 * Get a configuration from RM based on its URI. Uses the cache, if one is
+	 * set with {@link CrawlSettings#setCacheDirectory(String)}. Baselines found
+	 * in the cache are not requested from the server again.
+	 * 
+	 * @param client
+	 * @param settings
+	 * @param config
+	 * @return
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static Configuration getConfiguration(final JazzFormAuthClient client, final CrawlSettings settings,
+			final String config) throws IOException, OAuthException, URISyntaxException {
+		final ResourceCache resourceCache = settings.getResourceCache();
+		if (null == config || resourceCache == null) {
+			return getConfiguration(client, config);
+		}
+		if (Configuration.isBaselineURI(config)) {
+			// Baselines do not change, no need to ask the server again
+			return resourceCache.getImmutableResource(client, config, Configuration.class);
+		}
+		return resourceCache.getResource(client, config, Configuration.class);
 	}
 
 	/**
@@ -483,19 +1046,57 @@ public class DngCmUtil {
 	/**
 	 * Get the configurations (Streams/baselines) for a given set of components
 	 * 
+	 * The configuration containers of the components and the configurations
+	 * are read using the number of parallel requests set with
+	 * {@link CrawlSettings#setCrawlThreads(int)}. The requests for all
+	 * components share the same threads, so this is also the limit of requests
+	 * in flight. The result is in the order of the components and the
+	 * configurations listed by their container.
+	 * 
+	 * In incremental mode the configurations of a component whose container
+	 * did not change since the last crawl are read from the cache. If a page
+	 * size is set, the configurations of a page are read while the next page
+	 * of the container is requested.
+	 * 
 	 * @param client
+	 * @param settings
 	 * @param components
 	 * @return
 	 * @throws IOException
 	 * @throws OAuthException
 	 * @throws URISyntaxException
 	 */
+	@SuppressWarnings("deprecation")
 	public static Collection<Configuration> getConfigurationsForComponents(final JazzFormAuthClient client,
-			final Collection<Component> components) throws IOException, OAuthException, URISyntaxException {
+			final CrawlSettings settings, final Collection<Component> components)
+			throws IOException, OAuthException, URISyntaxException {
 		Collection<Configuration> configurations = new ArrayList<Configuration>();
-		for (Iterator<Component> iterator = components.iterator(); iterator.hasNext();) {
-			Component component = (Component) iterator.next();
-			configurations.addAll(getComponentConfigurations(client, component));
+		final ParallelRequestExecutor executor = new ParallelRequestExecutor(settings.getCrawlThreads());
+		try {
+			List<CompletableFuture<List<Configuration>>> componentConfigurations = new ArrayList<CompletableFuture<List<Configuration>>>();
+			for (Iterator<Component> iterator = components.iterator(); iterator.hasNext();) {
+				final Component component = (Component) iterator.next();
+				// Read the configuration container first, then all its
+				// configurations, without waiting for the other components
+				CompletableFuture<List<Configuration>> found = executor
+						.submit(component, comp -> submitComponentConfigurations(client, settings, executor, comp))
+						.thenCompose(pages -> pages);
+				componentConfigurations.add(found.thenApply(foundConfigurations -> {
+					List<Configuration> result = new ArrayList<Configuration>(foundConfigurations.size());
+					for (Configuration foundConfiguration : foundConfigurations) {
+						if (foundConfiguration != null) {
+							foundConfiguration.setComponentName(component.getTitle());
+							result.add(foundConfiguration);
+						}
+					}
+					return result;
+				}));
+			}
+			for (CompletableFuture<List<Configuration>> componentConfiguration : componentConfigurations) {
+				configurations.addAll(ParallelRequestExecutor.getResult(componentConfiguration));
+			}
+		} finally {
+			executor.shutdown();
 		}
 		return configurations;
 	}
@@ -504,6 +1105,7 @@ public class DngCmUtil {
 	 * Get all the components owned by a project area
 	 * 
 	 * @param client
+	 * @param settings
 	 * @param cmCatalogUrl
 	 * @param projectAreaServiceProviderUrl
 	 * @return
@@ -513,10 +1115,10 @@ public class DngCmUtil {
 	 * @throws ResourceNotFoundException
 	 */
 	public static Collection<Component> getComponentsForProjectArea(final JazzFormAuthClient client,
-			final String cmCatalogUrl, final String projectAreaId)
+			final CrawlSettings settings, final String cmCatalogUrl, final String projectAreaId)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
 		String projectAreaComponentFactory = getRmCmOslcLDPComponentFactory(client, cmCatalogUrl, projectAreaId);
-		Collection<Component> components = getComponents(client, projectAreaComponentFactory);
+		Collection<Component> components = getComponents(client, settings, projectAreaComponentFactory);
 		return components;
 	}
 
@@ -524,6 +1126,7 @@ public class DngCmUtil {
 	 * Get all the components owned by all project areas
 	 * 
 	 * @param client
+	 * @param settings
 	 * @param cmCatalogUrl
 	 * @param projectAreaServiceProviderUrl
 	 * @return
@@ -533,14 +1136,14 @@ public class DngCmUtil {
 	 * @throws ResourceNotFoundException
 	 */
 	public static Collection<Component> getComponentsForAllProjectAreas(final JazzFormAuthClient client,
-			final String cmCatalogUrl)
+			final CrawlSettings settings, final String cmCatalogUrl)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
 
 		Collection<Component> foundComponents = new ArrayList<Component>();
 
 		Collection<String> projectAreaComponentFactories = getRmCmOslcLDPComponentFactories(client, cmCatalogUrl);
 		for (String factory : projectAreaComponentFactories) {
-			foundComponents.addAll(getComponents(client, factory));
+			foundComponents.addAll(getComponents(client, settings, factory));
 		}
 		return foundComponents;
 	}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.eclipse.lyo.client.oslc.OSLCConstants;
+
+import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemManagementConstants;
+
+/**
+ * Reads the members of a container from its RDF/XML while it is parsed. The
+ * triples are not kept in a model, only the URIs of the contained resources,
+ * the members, the creation factories and the next page are collected. The
+ * time to read a container is linear with its size.
+ * 
+ * If the properties of the members are returned inline, the parser can keep
+ * the triples of each resource, so a member can be created from them without
+ * reading the whole container into a model.
+ *
+ */
+public class LdpContainerParser extends StreamRDFBase {
+
+	private static final String LDP_CONTAINS = DngTypeSystemManagementConstants.CM_LINKED_DATA_PLATFORM_CONTAINER_NAMESPACE
+			+ DngTypeSystemManagementConstants.PROPERTY_NAME_LDP_CONTAINS_PROPERTY_NAME;
+	private static final String DC_TITLE = OSLCConstants.DC + DngTypeSystemManagementConstants.DC_PROPERTY_NAME_TITLE;
+	private static final String RDFS_MEMBER = OSLCConstants.RDFS
+			+ DngTypeSystemManagementConstants.RDF_PROPERTY_MEMBER_NAME;
+	private static final String OSLC_CREATION = OSLCConstants.OSLC_V2
+			+ DngTypeSystemManagementConstants.CM_PROVIDER_CREATION_FACTORY;
+	private static final String OSLC_NEXT_PAGE = OSLCConstants.OSLC_V2 + "nextPage";
+
+	private final List<String> contains = new ArrayList<String>();
+	private final Set<String> titled = new HashSet<String>();
+	private final List<String> members = new ArrayList<String>();
+	private final List<String> creationFactories = new ArrayList<String>();
+	private String nextPage = null;
+	private final Map<String, List<Triple>> properties;
+
+	private LdpContainerParser(final boolean inline) {
+		this.properties = inline ? new HashMap<String, List<Triple>>() : null;
+	}
+
+	/**
+	 * Parse a container.
+	 * 
+	 * @param input
+	 *            the RDF/XML of the container
+	 * @param base
+	 *            the URI of the container, to resolve relative URIs
+	 * @return the parsed container
+	 */
+	public static LdpContainerParser parse(final InputStream input, final String base) {
+		return parse(input, base, false);
+	}
+
+	/**
+	 * Parse a container.
+	 * 
+	 * @param input
+	 *            the RDF/XML of the container
+	 * @param base
+	 *            the URI of the container, to resolve relative URIs
+	 * @param inline
+	 *            true to keep the triples of the resources, see
+	 *            {@link #getProperties(String)}
+	 * @return the parsed container
+	 */
+	public static LdpContainerParser parse(final InputStream input, final String base, final boolean inline) {
+		LdpContainerParser container = new LdpContainerParser(inline);
+		RDFDataMgr.parse(container, input, base, Lang.RDFXML);
+		return container;
+	}
+
+	@Override
+	public void triple(final Triple triple) {
+		Node predicate = triple.getPredicate();
+		if (!predicate.isURI()) {
+			return;
+		}
+		if (properties != null && triple.getSubject().isURI()) {
+			String subject = triple.getSubject().getURI();
+			List<Triple> subjectProperties = properties.get(subject);
+			if (subjectProperties == null) {
+				subjectProperties = new ArrayList<Triple>();
+				properties.put(subject, subjectProperties);
+			}
+			subjectProperties.add(triple);
+		}
+		String property = predicate.getURI();
+		if (LDP_CONTAINS.equals(property)) {
+			addURI(contains, triple.getObject());
+		} else if (DC_TITLE.equals(property)) {
+			if (triple.getSubject().isURI()) {
+				titled.add(triple.getSubject().getURI());
+			}
+		} else if (RDFS_MEMBER.equals(property)) {
+			addURI(members, triple.getObject());
+		} else if (OSLC_CREATION.equals(property)) {
+			addURI(creationFactories, triple.getObject());
+		} else if (OSLC_NEXT_PAGE.equals(property) && triple.getObject().isURI()) {
+			nextPage = triple.getObject().getURI();
+		}
+	}
+
+	private static void addURI(final List<String> uris, final Node node) {
+		if (node.isURI()) {
+			uris.add(node.getURI());
+		}
+	}
+
+	/**
+	 * @return the URIs of the ldp:contains resources that have a title, in
+	 *         document order
+	 */
+	public List<String> getContainedResources() {
+		List<String> resources = new ArrayList<String>(contains.size());
+		for (String resource : contains) {
+			if (titled.contains(resource)) {
+				resources.add(resource);
+			}
+		}
+		return resources;
+	}
+
+	/**
+	 * @return the URIs of the rdfs:member resources, in document order
+	 */
+	public List<String> getMembers() {
+		return members;
+	}
+
+	/**
+	 * @return the URIs of the oslc:creation factories, in document order
+	 */
+	public List<String> getCreationFactories() {
+		return creationFactories;
+	}
+
+	/**
+	 * @return the URL of the oslc:nextPage of a paged container or null if
+	 *         this is the last page
+	 */
+	public String getNextPage() {
+		return nextPage;
+	}
+
+	/**
+	 * @param uri
+	 *            the URI of a resource
+	 * @return the triples with the resource as subject, empty if the
+	 *         container was not parsed inline or has no properties of it
+	 */
+	public List<Triple> getProperties(final String uri) {
+		if (properties == null || !properties.containsKey(uri)) {
+			return Collections.emptyList();
+		}
+		return properties.get(uri);
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.wink.client.ClientResponse;
+import org.eclipse.lyo.client.oslc.jazz.JazzFormAuthClient;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.oauth.OAuthException;
+
+/**
+ * Reads a container page by page. The pages are requested with oslc.paging
+ * and the page size, the next page is found from oslc:nextPage in the page or
+ * from a Link header with rel="next". Each page is passed on as soon as it is
+ * read, so the members of a page can be processed while the next page is
+ * requested.
+ *
+ */
+public class PagedContainerReader {
+
+	public static final Logger logger = LoggerFactory.getLogger(PagedContainerReader.class);
+
+	/**
+	 * Handles a page of a container.
+	 */
+	public interface IPageHandler {
+		/**
+		 * @param page
+		 *            the members of the page, with their properties if the
+		 *            page was read inline
+		 * @return false to stop reading further pages
+		 * @throws IOException
+		 * @throws OAuthException
+		 * @throws URISyntaxException
+		 */
+		boolean handle(LdpContainerParser page) throws IOException, OAuthException, URISyntaxException;
+	}
+
+	/**
+	 * Read all pages of a container.
+	 * 
+	 * @param client
+	 * @param containerUrl
+	 *            the URL of the container
+	 * @param pageSize
+	 *            the number of members per page
+	 * @param inline
+	 *            true to request the properties of the members inline, see
+	 *            {@link BulkContainer}
+	 * @param handler
+	 *            handles each page and decides whether to read the next one
+	 * @return the number of pages read
+	 * @throws IOException
+	 *             if a page can not be read, so that an incomplete container
+	 *             is not taken for the whole one
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static int read(final JazzFormAuthClient client, final String containerUrl, final int pageSize,
+			final boolean inline, final IPageHandler handler)
+			throws IOException, OAuthException, URISyntaxException {
+		String query = "oslc.paging=true&oslc.pageSize=" + pageSize;
+		if (inline) {
+			query += "&" + BulkContainer.OSLC_PROPERTIES_ALL;
+		}
+		String pageUrl = BulkContainer.getQueryUrl(containerUrl, query);
+		Set<String> pagesRead = new HashSet<String>();
+		while (pageUrl != null && pagesRead.add(pageUrl)) {
+			byte[] body = null;
+			String nextPage = null;
+			ClientResponse response = null;
+			try {
+				response = client.getResource(pageUrl, OslcMediaType.RDF_XML);
+				logger.debug("Status: " + response.getStatusCode());
+				switch (response.getStatusCode()) {
+				case 200:
+					logger.trace("Success reading '{}'.", pageUrl);
+					body = ResourceCache.readContent(response.getEntity(InputStream.class));
+					nextPage = getNextLink(response.getHeaders().get("Link"));
+					break;
+				default:
+					throw new IOException(
+							"Unexpected return code " + response.getStatusCode() + " reading page '" + pageUrl + "'");
+				}
+			} finally {
+				if (response != null) {
+					response.consumeContent();
+				}
+			}
+			LdpContainerParser page = LdpContainerParser.parse(new ByteArrayInputStream(body), containerUrl, inline);
+			if (!handler.handle(page)) {
+				logger.debug("Stopped reading pages of '{}'", containerUrl);
+				return pagesRead.size();
+			}
+			pageUrl = page.getNextPage() != null ? page.getNextPage() : nextPage;
+		}
+		logger.debug("Read {} pages of '{}'", pagesRead.size(), containerUrl);
+		return pagesRead.size();
+	}
+
+	/**
+	 * Find the next page in Link headers e.g. &lt;url&gt;; rel="next".
+	 * 
+	 * @param links
+	 *            the values of the Link headers or null
+	 * @return the URL of the next page or null
+	 */
+	static String getNextLink(final List<String> links) {
+		if (links == null) {
+			return null;
+		}
+		for (String header : links) {
+			for (String link : header.split(",")) {
+				String[] parts = link.split(";");
+				String target = parts[0].trim();
+				if (!target.startsWith("<") || !target.endsWith(">")) {
+					continue;
+				}
+				for (int i = 1; i < parts.length; i++) {
+					String parameter = parts[i].trim().replace("\"", "");
+					if ("rel=next".equalsIgnoreCase(parameter)) {
+						return target.substring(1, target.length() - 1);
+					}
+				}
+			}
+		}
+		return null;
+	}
+}
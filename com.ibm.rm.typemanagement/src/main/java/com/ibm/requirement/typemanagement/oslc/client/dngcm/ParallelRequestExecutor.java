@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.oauth.OAuthException;
+
+/**
+ * Executes independent requests against the server using a bounded number of
+ * worker threads. All requests submitted to one executor share its threads, so
+ * the number of threads limits the requests in flight against the server. The
+ * results are returned in the order of the input, so the result is stable
+ * regardless of the order in which the requests complete.
+ *
+ */
+public class ParallelRequestExecutor {
+
+	public static final Logger logger = LoggerFactory.getLogger(ParallelRequestExecutor.class);
+
+	private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+	private ExecutorService executor = null;
+
+	/**
+	 * A request to be performed for one input element.
+	 *
+	 * @param <T>
+	 *            the type of the input e.g. a URI
+	 * @param <R>
+	 *            the type of the result
+	 */
+	public interface IRequest<T, R> {
+		R execute(T input) throws IOException, OAuthException, URISyntaxException;
+	}
+
+	/**
+	 * Create an executor. If threads is 1 or less the requests are performed
+	 * in the calling thread.
+	 *
+	 * @param threads
+	 *            the maximal number of parallel requests
+	 */
+	public ParallelRequestExecutor(final int threads) {
+		if (threads > 1) {
+			this.executor = Executors.newFixedThreadPool(threads, getThreadFactory());
+		}
+	}
+
+	/**
+	 * Submit a request for an input. The request does not block the caller
+	 * unless the executor performs the requests in the calling thread.
+	 *
+	 * @param input
+	 *            the input to perform the request for
+	 * @param request
+	 *            the request to perform
+	 * @return the future result of the request
+	 */
+	public <T, R> CompletableFuture<R> submit(final T input, final IRequest<T, R> request) {
+		if (executor == null) {
+			CompletableFuture<R> result = new CompletableFuture<R>();
+			try {
+				result.complete(request.execute(input));
+			} catch (Exception e) {
+				result.completeExceptionally(e);
+			}
+			return result;
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return request.execute(input);
+			} catch (IOException | OAuthException | URISyntaxException e) {
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Submit the request for all inputs.
+	 *
+	 * @param inputs
+	 *            the inputs to perform the request for
+	 * @param request
+	 *            the request to perform
+	 * @return the future results in the order of the inputs
+	 */
+	public <T, R> CompletableFuture<List<R>> submitAll(final List<T> inputs, final IRequest<T, R> request) {
+		final List<CompletableFuture<R>> futures = new ArrayList<CompletableFuture<R>>(inputs.size());
+		for (T input : inputs) {
+			futures.add(submit(input, request));
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+			List<R> results = new ArrayList<R>(futures.size());
+			for (CompletableFuture<R> future : futures) {
+				results.add(future.join());
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * Stop the threads of the executor. Requests that are still pending are
+	 * cancelled.
+	 */
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Perform the request for all inputs using at most the given number of
+	 * threads. If threads is 1 or less the requests are performed in the
+	 * calling thread.
+	 *
+	 * @param inputs
+	 *            the inputs to perform the request for
+	 * @param threads
+	 *            the maximal number of parallel requests
+	 * @param request
+	 *            the request to perform
+	 * @return a list with the results in the order of the inputs, never null
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static <T, R> List<R> executeOrdered(final List<T> inputs, final int threads,
+			final IRequest<T, R> request) throws IOException, OAuthException, URISyntaxException {
+		logger.debug("Executing {} requests using {} threads", inputs.size(), threads);
+		ParallelRequestExecutor executor = new ParallelRequestExecutor(Math.min(threads, inputs.size()));
+		try {
+			return getResult(executor.submitAll(inputs, request));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Wait for the result of a request and pass on the exception of the
+	 * request, if it failed.
+	 *
+	 * @param future
+	 * @return the result of the request
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public static <R> R getResult(final Future<R> future) throws IOException, OAuthException, URISyntaxException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted waiting for request", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			while (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof OAuthException) {
+				throw (OAuthException) cause;
+			}
+			if (cause instanceof URISyntaxException) {
+				throw (URISyntaxException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * @return a factory creating named daemon threads, so that a pending
+	 *         request does not prevent the application from terminating
+	 */
+	private static ThreadFactory getThreadFactory() {
+		return runnable -> {
+			Thread thread = new Thread(runnable, "tsm-request-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the progress of import and delivery operations in an append-only
+ * file, so that an interrupted run can be repeated without repeating the work
+ * that was already done. Each step is written and forced to disk before the
+ * next step starts. The first line holds the operation the journal records,
+ * each following line holds the step, the source, the target and the change
+ * set, separated by tabs.
+ * 
+ * When the journal is opened, the lines written by earlier runs are read to
+ * find the progress of each source and target pair. A line that was only
+ * partially written when a run ended is ignored. A journal can only be used
+ * for the operation it was created for. Rows it records as delivered are
+ * always skipped, so the journal of a finished run must be deleted before the
+ * same rows are delivered again.
+ *
+ */
+public class ProgressJournal implements Closeable {
+
+	public static final Logger logger = LoggerFactory.getLogger(ProgressJournal.class);
+
+	public static final String OPERATION_IMPORT = "import";
+	public static final String OPERATION_DELIVER = "deliver";
+
+	public static final String STEP_CHANGESET_CREATED = "CHANGESET_CREATED";
+	public static final String STEP_CHANGESET_DISCARDED = "CHANGESET_DISCARDED";
+	public static final String STEP_IMPORTED = "IMPORTED";
+	public static final String STEP_DELIVERED = "DELIVERED";
+
+	private static final String HEADER = "OPERATION";
+	private static final String SEPARATOR = "\t";
+	private static final String NONE = "-";
+
+	/**
+	 * The progress of a source and target pair.
+	 */
+	public static class Progress {
+		private String changeSet = null;
+		private boolean imported = false;
+		private boolean delivered = false;
+
+		/**
+		 * @return the URI of the change set created for the import or null
+		 */
+		public String getChangeSet() {
+			return changeSet;
+		}
+
+		/**
+		 * @return true if the source was imported into the change set
+		 */
+		public boolean isImported() {
+			return imported;
+		}
+
+		/**
+		 * @return true if the changes were delivered to the target
+		 */
+		public boolean isDelivered() {
+			return delivered;
+		}
+
+		private void apply(final String step, final String value) {
+			if (STEP_CHANGESET_CREATED.equals(step)) {
+				changeSet = value;
+				imported = false;
+			} else if (STEP_CHANGESET_DISCARDED.equals(step)) {
+				changeSet = null;
+				imported = false;
+			} else if (STEP_IMPORTED.equals(step)) {
+				imported = value != null && value.equals(changeSet);
+			} else if (STEP_DELIVERED.equals(step)) {
+				delivered = true;
+			}
+		}
+	}
+
+	private final File file;
+	private String operation = null;
+	private final Map<String, Progress> progress = new HashMap<String, Progress>();
+	private FileOutputStream output = null;
+	private boolean unfinishedLine = false;
+
+	private ProgressJournal(final File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Open a journal. The progress recorded in the file by earlier runs is
+	 * read, new steps are appended to the file.
+	 * 
+	 * @param fileName
+	 *            the journal file, created if it does not exist
+	 * @param operation
+	 *            the operation to record, one of the OPERATION constants
+	 * @return the journal
+	 * @throws IOException
+	 *             if the file can not be read or written or it records a
+	 *             different operation
+	 */
+	public static ProgressJournal open(final String fileName, final String operation) throws IOException {
+		ProgressJournal journal = new ProgressJournal(new File(fileName));
+		journal.read();
+		if (journal.operation != null && !journal.operation.equals(operation)) {
+			throw new IOException("The journal '" + fileName + "' records the " + journal.operation
+					+ " operation and can not be used for the " + operation + " operation");
+		}
+		journal.output = new FileOutputStream(journal.file, true);
+		if (journal.operation == null) {
+			journal.operation = operation;
+			journal.write(HEADER + SEPARATOR + operation);
+		}
+		return journal;
+	}
+
+	/**
+	 * @return the operation the journal records
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Get the progress of a source and target pair recorded so far.
+	 * 
+	 * @param source
+	 * @param target
+	 * @return the progress, never null
+	 */
+	public synchronized Progress getProgress(final String source, final String target) {
+		Progress found = progress.get(getKey(source, target));
+		if (found == null) {
+			return new Progress();
+		}
+		Progress copy = new Progress();
+		copy.changeSet = found.changeSet;
+		copy.imported = found.imported;
+		copy.delivered = found.delivered;
+		return copy;
+	}
+
+	/**
+	 * Record a step and force it to disk.
+	 * 
+	 * @param step
+	 *            one of the STEP constants
+	 * @param source
+	 * @param target
+	 * @param changeSet
+	 *            the URI of the change set or null
+	 * @throws IOException
+	 */
+	public synchronized void record(final String step, final String source, final String target,
+			final String changeSet) throws IOException {
+		write(step + SEPARATOR + source + SEPARATOR + target + SEPARATOR + (changeSet == null ? NONE : changeSet));
+		apply(step, source, target, changeSet);
+	}
+
+	/**
+	 * Append a line and force it to disk.
+	 * 
+	 * @param line
+	 *            the line without line break
+	 * @throws IOException
+	 */
+	private void write(String line) throws IOException {
+		line = line + "\n";
+		if (unfinishedLine) {
+			// Do not continue the unfinished line of the last run
+			line = "\n" + line;
+			unfinishedLine = false;
+		}
+		output.write(line.getBytes(StandardCharsets.UTF_8));
+		output.flush();
+		output.getChannel().force(false);
+	}
+
+	/**
+	 * Close the journal file. A failure to close is logged, the steps are
+	 * already on disk.
+	 */
+	@Override
+	public synchronized void close() {
+		if (output != null) {
+			try {
+				output.close();
+			} catch (IOException e) {
+				logger.error("IOException closing journal '{}': {}", file.getPath(), e.getMessage());
+			}
+			output = null;
+		}
+	}
+
+	/**
+	 * Read the steps recorded by earlier runs.
+	 * 
+	 * @throws IOException
+	 */
+	private void read() throws IOException {
+		if (!file.exists()) {
+			return;
+		}
+		String[] lines = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).split("\n", -1);
+		// The text after the last line break is a line the last run could not
+		// finish
+		String unfinished = lines[lines.length - 1];
+		if (!unfinished.isEmpty()) {
+			logger.warn("Ignoring unfinished journal entry '{}'", unfinished);
+			unfinishedLine = true;
+		}
+		int steps = 0;
+		for (int i = 0; i < lines.length - 1; i++) {
+			String[] fields = lines[i].split(SEPARATOR);
+			if (fields.length == 2 && HEADER.equals(fields[0]) && operation == null) {
+				operation = fields[1];
+				continue;
+			}
+			if (fields.length != 4) {
+				logger.warn("Ignoring invalid journal entry '{}'", lines[i]);
+				continue;
+			}
+			apply(fields[0], fields[1], fields[2], NONE.equals(fields[3]) ? null : fields[3]);
+			steps++;
+		}
+		logger.info("Read {} steps for {} configuration pairs from journal '{}'", steps, progress.size(),
+				file.getPath());
+	}
+
+	private void apply(final String step, final String source, final String target, final String changeSet) {
+		String key = getKey(source, target);
+		Progress found = progress.get(key);
+		if (found == null) {
+			found = new Progress();
+			progress.put(key, found);
+		}
+		found.apply(step, changeSet);
+	}
+
+	private static String getKey(final String source, final String target) {
+		return source + SEPARATOR + target;
+	}
+}
@@ -0,0 +1,510 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.wink.client.ClientResponse;
+import org.eclipse.lyo.client.oslc.OSLCConstants;
+import org.eclipse.lyo.client.oslc.jazz.JazzFormAuthClient;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.oauth.OAuthException;
+
+/**
+ * A persistent cache of resources read from the server. The RDF of a resource
+ * is stored in a folder together with its ETag and Last-Modified values. When
+ * the resource is requested again, it is revalidated using a conditional GET
+ * and read from the folder if the server responds 304 Not Modified.
+ * 
+ * Resources that can not be modified, such as baselines, are read from the
+ * folder without a request to the server. They are revalidated once their
+ * entry is older than the maximal age, so that resources removed from the
+ * server, such as archived baselines, are dropped from the folder.
+ * 
+ * Each resource is stored in one file named by the SHA-256 hash of its URI,
+ * holding the URI, ETag, Last-Modified and the RDF. The file is replaced
+ * atomically, so the RDF always belongs to the ETag stored with it and several
+ * threads and runs can share a folder.
+ *
+ */
+public class ResourceCache {
+
+	public static final Logger logger = LoggerFactory.getLogger(ResourceCache.class);
+
+	// Time in milliseconds an immutable resource is read without asking the server
+	public static final long DEFAULT_IMMUTABLE_MAX_AGE = 24 * 60 * 60 * 1000;
+
+	private static final String ENTRY_EXTENSION = ".entry";
+
+	private final File directory;
+	private long immutableMaxAge = DEFAULT_IMMUTABLE_MAX_AGE;
+
+	/**
+	 * The RDF of a resource and whether it was modified since it was stored.
+	 */
+	public static class Entry {
+		private final byte[] body;
+		private final boolean modified;
+
+		Entry(final byte[] body, final boolean modified) {
+			this.body = body;
+			this.modified = modified;
+		}
+
+		/**
+		 * @return the RDF/XML of the resource
+		 */
+		public byte[] getBody() {
+			return body;
+		}
+
+		/**
+		 * @return false if the server confirmed that the stored resource was
+		 *         not modified
+		 */
+		public boolean isModified() {
+			return modified;
+		}
+	}
+
+	/**
+	 * An entry as stored in the folder.
+	 */
+	private static class StoredEntry {
+		String etag;
+		String lastModified;
+		byte[] body;
+	}
+
+	/**
+	 * Create a cache that stores the resources in a folder. The folder is
+	 * created if it does not exist.
+	 * 
+	 * @param directory
+	 *            the folder to store the resources in
+	 * @throws IOException
+	 *             if the folder can not be created
+	 */
+	public ResourceCache(final File directory) throws IOException {
+		this.directory = directory;
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create cache folder '" + directory.getAbsolutePath() + "'");
+		}
+	}
+
+	/**
+	 * @return the folder the resources are stored in
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return the time in milliseconds an immutable resource is read from the
+	 *         folder before it is revalidated
+	 */
+	public long getImmutableMaxAge() {
+		return immutableMaxAge;
+	}
+
+	/**
+	 * @param immutableMaxAge
+	 *            the time in milliseconds an immutable resource is read from
+	 *            the folder before it is revalidated
+	 */
+	public void setImmutableMaxAge(long immutableMaxAge) {
+		this.immutableMaxAge = immutableMaxAge;
+	}
+
+	/**
+	 * Get a resource. The resource is revalidated with the server and read
+	 * from the cache if it was not modified.
+	 * 
+	 * @param client
+	 * @param uri
+	 *            the URI of the resource
+	 * @param resourceClass
+	 *            the class of the resource e.g. Configuration.class
+	 * @return the resource or null if it does not exist
+	 * @throws IOException
+	 *             if the server returns an unexpected status
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public <T extends AbstractResource> T getResource(final JazzFormAuthClient client, final String uri,
+			final Class<T> resourceClass) throws IOException, OAuthException, URISyntaxException {
+		byte[] body = getContent(client, uri);
+		if (body == null) {
+			return null;
+		}
+		return toResource(uri, body, resourceClass);
+	}
+
+	/**
+	 * Get a resource that can not be modified. If the resource is in the
+	 * cache, it is read from the cache without a request to the server. An
+	 * entry older than the maximal age is revalidated, so a resource that was
+	 * removed from the server is no longer returned.
+	 * 
+	 * @param client
+	 * @param uri
+	 *            the URI of the resource
+	 * @param resourceClass
+	 *            the class of the resource e.g. Configuration.class
+	 * @return the resource or null if it does not exist
+	 * @throws IOException
+	 *             if the server returns an unexpected status
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public <T extends AbstractResource> T getImmutableResource(final JazzFormAuthClient client, final String uri,
+			final Class<T> resourceClass) throws IOException, OAuthException, URISyntaxException {
+		if (getEntryFile(uri).lastModified() > System.currentTimeMillis() - immutableMaxAge) {
+			T resource = getStoredResource(uri, resourceClass);
+			if (resource != null) {
+				logger.trace("Read from cache '{}'.", uri);
+				return resource;
+			}
+		}
+		Entry entry = getEntry(client, uri, true);
+		if (entry == null) {
+			return null;
+		}
+		return toResource(uri, entry.getBody(), resourceClass);
+	}
+
+	/**
+	 * Get the RDF of a resource. The resource is revalidated with the server
+	 * and read from the cache if it was not modified.
+	 * 
+	 * @param client
+	 * @param uri
+	 *            the URI of the resource
+	 * @return the RDF/XML of the resource or null if it does not exist
+	 * @throws IOException
+	 *             if the server returns an unexpected status
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public byte[] getContent(final JazzFormAuthClient client, final String uri)
+			throws IOException, OAuthException, URISyntaxException {
+		Entry entry = getEntry(client, uri);
+		return entry == null ? null : entry.getBody();
+	}
+
+	/**
+	 * Get the RDF of a resource and whether it was modified since it was
+	 * stored. The resource is revalidated with the server and read from the
+	 * cache if it was not modified.
+	 * 
+	 * @param client
+	 * @param uri
+	 *            the URI of the resource
+	 * @return the entry or null if the resource does not exist
+	 * @throws IOException
+	 *             if the server returns an unexpected status
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public Entry getEntry(final JazzFormAuthClient client, final String uri)
+			throws IOException, OAuthException, URISyntaxException {
+		return getEntry(client, uri, false);
+	}
+
+	/**
+	 * Get a resource from the cache without a request to the server.
+	 * 
+	 * @param uri
+	 *            the URI of the resource
+	 * @param resourceClass
+	 *            the class of the resource e.g. Configuration.class
+	 * @return the resource or null if it is not in the cache
+	 */
+	public <T extends AbstractResource> T getStoredResource(final String uri, final Class<T> resourceClass) {
+		final StoredEntry stored = readEntry(getEntryFile(uri), uri);
+		if (stored == null) {
+			return null;
+		}
+		try {
+			return toResource(uri, stored.body, resourceClass);
+		} catch (IOException e) {
+			logger.debug("Unable to read cached '{}': '{}'", uri, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Get the RDF of a resource.
+	 * 
+	 * @param client
+	 * @param uri
+	 *            the URI of the resource
+	 * @param immutable
+	 *            true if the resource can not be modified, so it is stored
+	 *            even without ETag or Last-Modified
+	 * @return the entry or null if the resource does not exist
+	 * @throws IOException
+	 *             if the server returns an unexpected status
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	private Entry getEntry(final JazzFormAuthClient client, final String uri, final boolean immutable)
+			throws IOException, OAuthException, URISyntaxException {
+		final File entryFile = getEntryFile(uri);
+		// The body used on 304 is the one read together with the validators
+		final StoredEntry stored = readEntry(entryFile, uri);
+
+		Map<String, String> requestHeaders = new HashMap<String, String>();
+		requestHeaders.put("Accept", OslcMediaType.APPLICATION_RDF_XML);
+		requestHeaders.put(OSLCConstants.OSLC_CORE_VERSION, "2.0");
+		if (stored != null) {
+			if (stored.etag != null) {
+				requestHeaders.put("If-None-Match", stored.etag);
+			}
+			if (stored.lastModified != null) {
+				requestHeaders.put("If-Modified-Since", stored.lastModified);
+			}
+		}
+
+		ClientResponse response = null;
+		try {
+			response = client.getResource(uri, requestHeaders);
+			logger.debug("Status: " + response.getStatusCode());
+			switch (response.getStatusCode()) {
+			case 200:
+				logger.trace("Success reading '{}'.", uri);
+				byte[] body = readContent(response.getEntity(InputStream.class));
+				store(entryFile, uri, body, response.getHeaders().getFirst("ETag"),
+						response.getHeaders().getFirst("Last-Modified"), immutable);
+				return new Entry(body, true);
+			case 304:
+				logger.trace("Not modified '{}'.", uri);
+				if (stored == null) {
+					// Not asked for, the server ignored the missing validators
+					throw unexpectedStatus(response.getStatusCode(), uri);
+				}
+				// Still valid, restart the maximal age of immutable resources
+				entryFile.setLastModified(System.currentTimeMillis());
+				return new Entry(stored.body, false);
+			case 404:
+			case 410:
+				logger.trace("Resource not found '{}'.", uri);
+				entryFile.delete();
+				return null;
+			default:
+				// Only a missing resource is absent, a refused or failed request
+				// must not look like one
+				throw unexpectedStatus(response.getStatusCode(), uri);
+			}
+		} finally {
+			if (response != null) {
+				response.consumeContent();
+			}
+		}
+	}
+
+	/**
+	 * @param status
+	 *            the status code of the response
+	 * @param uri
+	 *            the URI of the resource
+	 * @return the exception to throw for a status that is not expected
+	 */
+	private static IOException unexpectedStatus(final int status, final String uri) {
+		return new IOException("Unexpected return code " + status + " reading '" + uri + "'");
+	}
+
+	/**
+	 * Create a resource from its RDF.
+	 * 
+	 * @param uri
+	 *            the URI of the resource
+	 * @param body
+	 *            the RDF/XML of the resource
+	 * @param resourceClass
+	 *            the class of the resource
+	 * @return the resource or null, if the RDF does not describe a resource of
+	 *         the class
+	 * @throws IOException
+	 *             if the RDF can not be read
+	 */
+	public static <T extends AbstractResource> T toResource(final String uri, final byte[] body,
+			final Class<T> resourceClass) throws IOException {
+		Model model = ModelFactory.createDefaultModel();
+		model.read(new ByteArrayInputStream(body), uri);
+		Object[] resources;
+		try {
+			resources = JenaModelHelper.fromJenaModel(model, resourceClass);
+		} catch (Exception e) {
+			throw new IOException("Unable to read resource '" + uri + "'", e);
+		}
+		if (resources == null || resources.length == 0) {
+			return null;
+		}
+		for (Object resource : resources) {
+			AbstractResource found = (AbstractResource) resource;
+			if (found.getAbout() != null && uri.equals(found.getAbout().toString())) {
+				return resourceClass.cast(found);
+			}
+		}
+		return resourceClass.cast(resources[0]);
+	}
+
+	/**
+	 * Store a resource. The entry is written to a temporary file that is moved
+	 * in place, so readers never see a partial entry or a body with the
+	 * validators of another response.
+	 * 
+	 * @param entryFile
+	 * @param uri
+	 * @param body
+	 * @param etag
+	 * @param lastModified
+	 * @param immutable
+	 */
+	private void store(final File entryFile, final String uri, final byte[] body, final String etag,
+			final String lastModified, final boolean immutable) {
+		if (etag == null && lastModified == null && !immutable) {
+			// Can not be revalidated
+			entryFile.delete();
+			return;
+		}
+		File tempEntry = null;
+		try {
+			tempEntry = File.createTempFile(entryFile.getName(), ".tmp", directory);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempEntry)));
+			try {
+				out.writeUTF(uri);
+				out.writeUTF(etag == null ? "" : etag);
+				out.writeUTF(lastModified == null ? "" : lastModified);
+				out.writeInt(body.length);
+				out.write(body);
+			} finally {
+				out.close();
+			}
+			Files.move(tempEntry.toPath(), entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.debug("Unable to cache '{}': '{}'", uri, e.getMessage());
+			if (tempEntry != null) {
+				tempEntry.delete();
+			}
+		}
+	}
+
+	/**
+	 * Read a stored entry.
+	 * 
+	 * @param entryFile
+	 * @param uri
+	 * @return the entry or null if there is no valid entry for the URI
+	 */
+	private static StoredEntry readEntry(final File entryFile, final String uri) {
+		if (!entryFile.isFile()) {
+			return null;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entryFile)));
+			try {
+				if (!uri.equals(in.readUTF())) {
+					return null;
+				}
+				StoredEntry entry = new StoredEntry();
+				entry.etag = emptyToNull(in.readUTF());
+				entry.lastModified = emptyToNull(in.readUTF());
+				entry.body = new byte[in.readInt()];
+				in.readFully(entry.body);
+				return entry;
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			logger.debug("Unable to read cache entry '{}': '{}'", entryFile, e.getMessage());
+			return null;
+		}
+	}
+
+	private static String emptyToNull(final String value) {
+		return value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * @param uri
+	 * @return the file the entry of the URI is stored in
+	 */
+	private File getEntryFile(final String uri) {
+		return new File(directory, getKey(uri) + ENTRY_EXTENSION);
+	}
+
+	/**
+	 * Read a response body completely.
+	 * 
+	 * @param input
+	 * @return the content
+	 * @throws IOException
+	 */
+	static byte[] readContent(final InputStream input) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = input.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param uri
+	 * @return the SHA-256 hash of the URI as hex string
+	 */
+	static String getKey(final String uri) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest(uri.getBytes("UTF-8"));
+			StringBuilder key = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				key.append(String.format("%02x", b));
+			}
+			return key.toString();
+		} catch (NoSuchAlgorithmException | IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ParallelRequestExecutor.IRequest;
+
+import net.oauth.OAuthException;
+
+/**
+ * Keeps the results of requests by key. If several threads ask for the same
+ * key at the same time, the request is only performed once and all threads
+ * get its result. Failed requests are not kept, so the next call tries again.
+ *
+ * @param <T>
+ *            the type of the result
+ */
+public class SingleFlightCache<T> {
+
+	private final ConcurrentHashMap<String, CompletableFuture<T>> results = new ConcurrentHashMap<String, CompletableFuture<T>>();
+	private final boolean keepNull;
+
+	/**
+	 * @param keepNull
+	 *            true to keep null results, false to perform the request again
+	 *            for a key with a null result
+	 */
+	public SingleFlightCache(final boolean keepNull) {
+		this.keepNull = keepNull;
+	}
+
+	/**
+	 * Get the result for a key. Performs the request if there is no result
+	 * for the key yet, or waits for a request for the key already in flight.
+	 * 
+	 * @param key
+	 * @param request
+	 *            the request to perform for the key
+	 * @return the result of the request
+	 * @throws IOException
+	 * @throws OAuthException
+	 * @throws URISyntaxException
+	 */
+	public T get(final String key, final IRequest<String, T> request)
+			throws IOException, OAuthException, URISyntaxException {
+		CompletableFuture<T> result = new CompletableFuture<T>();
+		CompletableFuture<T> existing = results.putIfAbsent(key, result);
+		if (existing != null) {
+			return ParallelRequestExecutor.getResult(existing);
+		}
+		try {
+			T value = request.execute(key);
+			if (value == null && !keepNull) {
+				results.remove(key, result);
+			}
+			result.complete(value);
+			return value;
+		} catch (Throwable e) {
+			// Complete also on errors, otherwise waiting callers block forever
+			results.remove(key, result);
+			result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Forget all results.
+	 */
+	public void clear() {
+		results.clear();
+	}
+}
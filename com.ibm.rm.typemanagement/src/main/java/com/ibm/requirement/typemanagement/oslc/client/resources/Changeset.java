@@ -45,6 +45,7 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.util.TimeStampU
 import com.ibm.requirement.typemanagement.oslc.client.dngcm.DngCmUtil;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.IRequestTracker;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.RequestTrackerImpl;
+import com.ibm.requirement.typemanagement.oslc.client.tracking.TrackerPoller;
 
 import net.oauth.OAuthException;
 
@@ -371,16 +372,13 @@ public class Changeset extends AbstractResource {
 				DngTypeSystemManagementConstants.CONTENT_TYPE_APPLICATION_JSON);
 
 		IRequestTracker tracker = RequestTrackerImpl.getInstance(trackerURI, client, targetJsonHeader);
-		URI trackerComplete = new URI(IRequestTracker.TRACKER_STATE_COMPLETE);
 		URI trackerVerdictError = new URI(IRequestTracker.TRACKER_VERDICT_ERROR);
 		URI trackerVerdictFailed = new URI(IRequestTracker.TRACKER_VERDICT_FAILED);
 		URI trackerVerdictPassed = new URI(IRequestTracker.TRACKER_VERDICT_PASSED);
 
-		URI trackerState = tracker.getState();
-
-		while (!trackerState.equals(trackerComplete)) {
-			logger.trace("Tracker state : '{}'", trackerState.toString());
-			trackerState = tracker.getState();
+		if (!TrackerPoller.waitForCompletion(tracker)) {
+			logger.error("The change set creation tracker '{}' did not complete.", trackerURI);
+			return null;
 		}
 
 		URI trackerVerdict = tracker.getVerdict();
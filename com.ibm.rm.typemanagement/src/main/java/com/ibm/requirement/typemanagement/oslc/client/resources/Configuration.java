@@ -43,6 +43,11 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemMa
 		+ DngTypeSystemManagementConstants.CONFIGUTATION_MANAGEMENT_CONFIGURATION_TYPE)
 public class Configuration extends AbstractResource {
 
+	private static final int TYPE_UNKNOWN = 0;
+	private static final int TYPE_STREAM = 1;
+	private static final int TYPE_BASELINE = 2;
+	private static final int TYPE_CHANGESET = 3;
+
 	private Boolean isBaseline = null;
 	private Boolean isChangeSet = null;
 	private Boolean isStream = null;
@@ -62,6 +67,7 @@ public class Configuration extends AbstractResource {
 	private URI acceptedBy;
 	private URI selections;
 	private Date created;
+	private Date committed;
 	private URI changesets;
 	private URI overrides;
 	private URI baselineOfStream;
@@ -147,6 +153,10 @@ public class Configuration extends AbstractResource {
 		this.created = created;
 	}
 
+	public void setCommitted(Date committed) {
+		this.committed = committed;
+	}
+
 	public void setChangesets(URI changesets) {
 		this.changesets = changesets;
 	}
@@ -183,30 +193,50 @@ public class Configuration extends AbstractResource {
 	}
 
 	/**
-	 * Compute the type of the object.
+	 * Check if a configuration URI is the URI of a baseline. Baselines can not
+	 * be modified, so their content can be kept once it is read.
 	 * 
-	 * @param about
+	 * @param configuration
+	 *            the URI of the configuration
+	 * @return true if the URI is the URI of a baseline
 	 */
-	private void computeType(final URI about) {
-		String configuration = about.toString();
+	public static boolean isBaselineURI(final String configuration) {
+		return getTypeOf(configuration) == TYPE_BASELINE;
+	}
+
+	/**
+	 * Get the type of a configuration from its URI.
+	 * 
+	 * @param configuration
+	 *            the URI of the configuration
+	 * @return the type
+	 */
+	private static int getTypeOf(final String configuration) {
 		if (configuration.contains("stream")) {
-			isBaseline = false;
-			isChangeSet = false;
-			isStream = true;
-			return;
+			return TYPE_STREAM;
 		}
 		if (configuration.contains("baseline")) {
-			isBaseline = true;
-			isChangeSet = false;
-			isStream = false;
-			return;
+			return TYPE_BASELINE;
 		}
 		if (configuration.contains("changeset")) {
-			isBaseline = false;
-			isChangeSet = true;
-			isStream = false;
+			return TYPE_CHANGESET;
+		}
+		return TYPE_UNKNOWN;
+	}
+
+	/**
+	 * Compute the type of the object.
+	 * 
+	 * @param about
+	 */
+	private void computeType(final URI about) {
+		int type = getTypeOf(about.toString());
+		if (type == TYPE_UNKNOWN) {
 			return;
 		}
+		isStream = type == TYPE_STREAM;
+		isBaseline = type == TYPE_BASELINE;
+		isChangeSet = type == TYPE_CHANGESET;
 	}
 
 	/**
@@ -380,6 +410,23 @@ public class Configuration extends AbstractResource {
 		return created;
 	}
 
+	@OslcDescription("Date and time the change set was delivered. Not set for change sets that are still open.")
+	@OslcPropertyDefinition(DngTypeSystemManagementConstants.CONFIGUTATION_MANAGEMENT_NAMESPACE + "committed")
+	@OslcReadOnly
+	@OslcOccurs(Occurs.ZeroOrOne)
+	@OslcTitle("Committed")
+	@OslcValueType(ValueType.DateTime)
+	public Date getCommitted() {
+		return committed;
+	}
+
+	/**
+	 * @return true if the configuration is a change set that was delivered
+	 */
+	public boolean isCommitted() {
+		return committed != null;
+	}
+
 	@OslcDescription("The changesets.")
 	@OslcPropertyDefinition(DngTypeSystemManagementConstants.DMG_CONFIGURATION_MANAGEMENT_NAMESPACE + "changesets")
 	@OslcReadOnly
@@ -51,8 +51,10 @@ import com.ibm.requirement.typemanagement.oslc.client.automation.util.HeaderRequ
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.LoggingUtil;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.RDFUtils;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.TimeStampUtil;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.DiscoveryCache;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.IRequestTracker;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.RequestTrackerImpl;
+import com.ibm.requirement.typemanagement.oslc.client.tracking.TrackerPoller;
 
 import net.oauth.OAuthException;
 
@@ -226,9 +228,12 @@ public class DngCmDeliverySession extends AbstractResource {
 		ClientResponse response = null;
 		String sessionUrl = null;
 		try {
-			response = client.createResource(deliverySessionFactory.getCreation().toString(), deliverySession,
-					OslcMediaType.APPLICATION_RDF_XML, OSLCConstants.CT_RDF);
-			HeaderRequestInterceptor.removeRequestInterceptor(client);
+			try {
+				response = client.createResource(deliverySessionFactory.getCreation().toString(), deliverySession,
+						OslcMediaType.APPLICATION_RDF_XML, OSLCConstants.CT_RDF);
+			} finally {
+				HeaderRequestInterceptor.removeRequestInterceptor(client);
+			}
 
 			logger.debug("Status: " + response.getStatusCode());
 
@@ -289,7 +294,8 @@ public class DngCmDeliverySession extends AbstractResource {
 	}
 
 	/**
-	 * Get the delivery session factory from the service provider
+	 * Get the delivery session factory from the service provider. The factory
+	 * is looked up once per service provider, see {@link DiscoveryCache}.
 	 * 
 	 * @param client
 	 * @param serviceProviderUrl
@@ -302,8 +308,9 @@ public class DngCmDeliverySession extends AbstractResource {
 	private static CreationFactory getDeliverySessionFactory(final JazzFormAuthClient client,
 			final String serviceProviderUrl)
 			throws IOException, OAuthException, URISyntaxException, ResourceNotFoundException {
-		CreationFactory deliverySessionFactory = client.lookupCreationFactoryResource(serviceProviderUrl,
-				OSLCConstants.OSLC_RM_V2, DngTypeSystemManagementConstants.DMG_CONFIGURATION_MANAGEMENT_NAMESPACE
+		CreationFactory deliverySessionFactory = DiscoveryCache.getInstance(client).lookupCreationFactoryResource(
+				client, serviceProviderUrl, OSLCConstants.OSLC_RM_V2,
+				DngTypeSystemManagementConstants.DMG_CONFIGURATION_MANAGEMENT_NAMESPACE
 						+ DngTypeSystemManagementConstants.DELIVERY_SESSION_TYPE,
 				null);
 		return deliverySessionFactory;
@@ -539,15 +546,12 @@ public class DngCmDeliverySession extends AbstractResource {
 				DngTypeSystemManagementConstants.CONTENT_TYPE_APPLICATION_JSON);
 
 		IRequestTracker tracker = RequestTrackerImpl.getInstance(trackerUrl, client, targetJsonHeader);
-		URI trackerComplete = new URI(IRequestTracker.TRACKER_STATE_COMPLETE);
 		URI trackerVerdictError = new URI(IRequestTracker.TRACKER_VERDICT_ERROR);
 		URI trackerVerdictFailed = new URI(IRequestTracker.TRACKER_VERDICT_FAILED);
 
-		URI trackerState = tracker.getState();
-
-		while (!trackerState.equals(trackerComplete)) {
-			logger.trace("Tracker state : '{}'", trackerState.toString());
-			trackerState = tracker.getState();
+		if (!TrackerPoller.waitForCompletion(tracker)) {
+			logger.error("The delivery tracker '{}' did not complete.", trackerUrl);
+			return false;
 		}
 
 		URI trackerVerdict = tracker.getVerdict();
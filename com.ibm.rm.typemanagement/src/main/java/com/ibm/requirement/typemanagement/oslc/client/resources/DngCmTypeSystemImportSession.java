@@ -42,8 +42,10 @@ import org.slf4j.LoggerFactory;
 
 import com.ibm.requirement.typemanagement.oslc.client.automation.DngTypeSystemManagementConstants;
 import com.ibm.requirement.typemanagement.oslc.client.automation.util.HeaderRequestInterceptor;
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.DiscoveryCache;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.IRequestTracker;
 import com.ibm.requirement.typemanagement.oslc.client.tracking.RequestTrackerImpl;
+import com.ibm.requirement.typemanagement.oslc.client.tracking.TrackerPoller;
 
 import net.oauth.OAuthException;
 
@@ -106,8 +108,9 @@ public class DngCmTypeSystemImportSession extends AbstractResource {
 		typeImportSession.setTarget(target.getAbout());
 		typeImportSession.setServiceProvider(target.getServiceProvider());
 
-		String typeImportCreationFactory = client.lookupCreationFactory(target.getServiceProvider().toString(),
-				OSLCConstants.OSLC_RM_V2, DngTypeSystemManagementConstants.DNG_TYPES_NAMESPACE
+		String typeImportCreationFactory = DiscoveryCache.getInstance(client).lookupCreationFactory(client,
+				target.getServiceProvider().toString(), OSLCConstants.OSLC_RM_V2,
+				DngTypeSystemManagementConstants.DNG_TYPES_NAMESPACE
 						+ DngTypeSystemManagementConstants.TYPE_IMPORT_SESSION_TYPE);
 
 		HashMap<String, String> header = new HashMap<String, String>();
@@ -121,10 +124,13 @@ public class DngCmTypeSystemImportSession extends AbstractResource {
 		ClientResponse response = null;
 		try {
 
-			response = client.createResource(typeImportCreationFactory, typeImportSession,
-					OslcMediaType.APPLICATION_RDF_XML, OSLCConstants.CT_RDF);
+			try {
+				response = client.createResource(typeImportCreationFactory, typeImportSession,
+						OslcMediaType.APPLICATION_RDF_XML, OSLCConstants.CT_RDF);
+			} finally {
+				HeaderRequestInterceptor.removeRequestInterceptor(client);
+			}
 			logger.debug("Status: " + response.getStatusCode());
-			HeaderRequestInterceptor.removeRequestInterceptor(client);
 
 			if (response.getStatusCode() == 202) {
 
@@ -136,14 +142,11 @@ public class DngCmTypeSystemImportSession extends AbstractResource {
 				targetJsonHeader.put(DngTypeSystemManagementConstants.CONTENT_TYPE_HEADER, OSLCConstants.CT_JSON);
 
 				IRequestTracker tracker = RequestTrackerImpl.getInstance(trackerUrl, client, targetJsonHeader);
-				URI trackerComplete = new URI(IRequestTracker.TRACKER_STATE_COMPLETE);
 				URI trackerVerdictError = new URI(IRequestTracker.TRACKER_VERDICT_ERROR);
 
-				URI trackerState = tracker.getState();
-
-				while (!trackerState.equals(trackerComplete)) {
-					logger.trace("Tracker state : '{}'", trackerState.toString());
-					trackerState = tracker.getState();
+				if (!TrackerPoller.waitForCompletion(tracker)) {
+					logger.error("The type import tracker '{}' did not complete.", trackerUrl);
+					return false;
 				}
 
 				URI trackerVerdict = tracker.getVerdict();
@@ -23,9 +23,8 @@ import java.util.Map;
 
 import javax.json.Json;
 import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonReader;
-import javax.json.JsonReaderFactory;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 import org.apache.wink.client.ClientResponse;
 import org.eclipse.lyo.client.oslc.OslcClient;
@@ -34,6 +33,12 @@ import org.slf4j.LoggerFactory;
 
 import net.oauth.OAuthException;
 
+/**
+ * Helper to read tracker documents. The methods keep no state, so trackers can
+ * be read concurrently. Consistency for one tracker is provided by the tracker
+ * instance.
+ *
+ */
 public class JsonUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(JsonUtils.class);
@@ -49,7 +54,7 @@ public class JsonUtils {
 		return arr;
 	}
 
-	public static synchronized String getTrackerState(String uri, String requestUri, OslcClient client,
+	public static String getTrackerState(String uri, String requestUri, OslcClient client,
 			Map<String, String> requestHeaders) throws IOException, OAuthException, URISyntaxException {
 
 		ClientResponse response = null;
@@ -57,28 +62,13 @@ public class JsonUtils {
 			response = client.getResource(uri, requestHeaders);
 			InputStream input = response.getEntity(InputStream.class);
 
-			// Create JsonReader object
-			JsonReaderFactory factory = Json.createReaderFactory(null);
-			JsonReader jsonReader = factory.createReader(input);
-
-			JsonObject jObj = jsonReader.readObject();
-			logger.info(jObj.toString());
-
 			// first let's fetch the verdict of
-			JsonObject x = jObj.getJsonObject(requestUri);
-			if (x == null) {
-				response.consumeContent();
-				jsonReader.close();
+			TrackerResult result = readTrackerResult(input, requestUri);
+			if (result == null) {
 				logger.info("Tracker in progress.");
-				response.consumeContent();
 				return "IN PROGRESS";
 			}
-			JsonArray y = x.getJsonArray("http://open-services.net/ns/core#message");
-
-			String value = y.getJsonObject(0).getString("value");
-
-			response.consumeContent();
-			jsonReader.close();
+			String value = result.getMessage();
 
 			logger.debug("Tracker finished with status : '{}'", value);
 
@@ -90,31 +80,128 @@ public class JsonUtils {
 		}
 	}
 
-	public static synchronized JsonObject getTrackerState(String uri, OslcClient client,
-			Map<String, String> requestHeaders) {
-
-		JsonObject json = null;
+	/**
+	 * Get the values of a tracker.
+	 * 
+	 * @param uri
+	 *            the URI of the tracker
+	 * @param client
+	 * @param requestHeaders
+	 * @return the values of the tracker or null if the tracker could not be
+	 *         read
+	 */
+	public static TrackerResult getTrackerResult(String uri, OslcClient client, Map<String, String> requestHeaders) {
+
+		TrackerResult result = null;
 		ClientResponse response = null;
 		try {
 			response = client.getResource(uri, requestHeaders);
 			// logger.info(" RawResponse '{}'",
 			// RDFUtils.getRawResponse(response));
+			if (response.getStatusCode() != 200) {
+				logger.debug("Unable to read tracker '{}': status {}", uri, response.getStatusCode());
+				return null;
+			}
 			InputStream input = response.getEntity(InputStream.class);
-
-			// Create JsonReader object
-			JsonReaderFactory factory = Json.createReaderFactory(null);
-			JsonReader jsonReader = factory.createReader(input);
-
-			json = jsonReader.readObject();
-			jsonReader.close();
+			result = readTrackerResult(input, uri);
 		} catch (Exception e) {
-			e.printStackTrace();
+			logger.debug("Unable to read tracker '{}': {}", uri, e.getMessage());
 		} finally {
 			if (response != null) {
 				response.consumeContent();
 			}
 		}
-		return json;
+		return result;
+	}
+
+	/**
+	 * Read the values of a subject from a RDF/JSON document. The document is
+	 * parsed as a stream of events and only the values the tracker needs are
+	 * kept, all other content is dropped while it is read.
+	 * 
+	 * The document has the form { subject : { predicate : [ { "type" : type,
+	 * "value" : value } ] } }.
+	 * 
+	 * @param input
+	 *            the RDF/JSON document
+	 * @param subject
+	 *            the URI of the subject
+	 * @return the values of the subject or null if the subject is not in the
+	 *         document
+	 */
+	public static TrackerResult readTrackerResult(InputStream input, String subject) {
+		TrackerResult result = null;
+		JsonParser parser = Json.createParser(input);
+		try {
+			// 1: document, 2: subject, 3: values of a predicate, 4: value
+			int depth = 0;
+			boolean inSubject = false;
+			String predicate = null;
+			String key = null;
+			String type = null;
+			String value = null;
+			while (parser.hasNext()) {
+				Event event = parser.next();
+				switch (event) {
+				case START_OBJECT:
+				case START_ARRAY:
+					depth++;
+					break;
+				case END_OBJECT:
+					if (depth == 4 && inSubject && predicate != null) {
+						result.setValue(predicate, type, value);
+						key = null;
+						type = null;
+						value = null;
+					}
+					if (depth == 2) {
+						// Leaving a subject, drop what was read for it
+						inSubject = false;
+						predicate = null;
+						key = null;
+						type = null;
+						value = null;
+					}
+					depth--;
+					break;
+				case END_ARRAY:
+					if (depth == 3) {
+						predicate = null;
+					}
+					depth--;
+					break;
+				case KEY_NAME:
+					if (depth == 1) {
+						inSubject = subject.equals(parser.getString());
+						if (inSubject && result == null) {
+							result = new TrackerResult();
+						}
+					} else if (depth == 2 && inSubject) {
+						predicate = parser.getString();
+						if (!TrackerResult.isTracked(predicate)) {
+							predicate = null;
+						}
+					} else if (depth == 4 && inSubject && predicate != null) {
+						key = parser.getString();
+					}
+					break;
+				case VALUE_STRING:
+					if (depth == 4 && inSubject && predicate != null) {
+						if ("type".equals(key)) {
+							type = parser.getString();
+						} else if ("value".equals(key)) {
+							value = parser.getString();
+						}
+					}
+					break;
+				default:
+					break;
+				}
+			}
+		} finally {
+			parser.close();
+		}
+		return result;
 	}
 
 }
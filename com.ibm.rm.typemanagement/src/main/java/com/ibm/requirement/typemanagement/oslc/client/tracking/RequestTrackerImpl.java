@@ -18,88 +18,142 @@ package com.ibm.requirement.typemanagement.oslc.client.tracking;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonValue;
-
-import org.eclipse.lyo.client.oslc.OSLCConstants;
 import org.eclipse.lyo.client.oslc.OslcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implements a tracker used to track long running operations.
+ * 
+ * The trackers are kept in a registry, so that requests for the same tracker
+ * URI share one instance. A tracker is removed from the registry when it is
+ * found complete, or when it was not used for {@link #TRACKER_TIME_TO_LIVE}
+ * milliseconds. Callers keep their reference and can still read the result.
+ * 
+ * The methods of a tracker are synchronized on the tracker instance, so that
+ * the state, verdict and references read belong to the same result. Distinct
+ * trackers are read concurrently.
  *
  */
 public class RequestTrackerImpl implements IRequestTracker {
 
 	public static final Logger logger = LoggerFactory.getLogger(RequestTrackerImpl.class);
 
-	private static HashMap<String, RequestTrackerImpl> instances = new HashMap<String, RequestTrackerImpl>();
+	// Time in milliseconds after which an unused tracker is removed
+	public static final long TRACKER_TIME_TO_LIVE = 60 * 60 * 1000;
+
+	private static final ConcurrentHashMap<String, RequestTrackerImpl> instances = new ConcurrentHashMap<String, RequestTrackerImpl>();
 
 	private OslcClient client;
 	private Map<String, String> headers;
 	private String trackerUri;
-	private JsonObject tracker;
-	private JsonObject jsonResultObject;
-
+	private TrackerResult tracker;
+	private volatile long lastAccess = System.currentTimeMillis();
+
+	/**
+	 * @return the verdict of the last result read or
+	 *         {@link IRequestTracker#TRACKER_VERDICT_UNAVAILABLE} if there is
+	 *         no verdict
+	 * @throws URISyntaxException
+	 */
 	public synchronized URI getVerdict() throws URISyntaxException {
-		JsonObject verdict = tracker.getJsonArray(IRequestTracker.TRAKCER_VERDICT_URI).getJsonObject(0);
-		return new URI(verdict.getString("value"));
+		if (tracker == null || tracker.getVerdict() == null) {
+			return new URI(IRequestTracker.TRACKER_VERDICT_UNAVAILABLE);
+		}
+		return new URI(tracker.getVerdict());
 	}
 
+	/**
+	 * Read the tracker and get its state.
+	 * 
+	 * @return the state or null if the tracker could not be read or has no
+	 *         state
+	 * @throws URISyntaxException
+	 */
 	public synchronized URI getState() throws URISyntaxException {
 
-		tracker = getTrackerResult();
-		JsonObject state = tracker.getJsonArray(IRequestTracker.TRACKER_STATE_URI).getJsonObject(0);
-
-		return new URI(state.getString("value"));
+		TrackerResult result = getTrackerResult();
+		if (result == null) {
+			// Not available, keep the last result
+			return null;
+		}
+		tracker = result;
+		String stateValue = tracker.getState();
+		if (stateValue == null) {
+			logger.debug("Tracker '{}' has no state", trackerUri);
+			return null;
+		}
+		if (IRequestTracker.TRACKER_STATE_COMPLETE.equals(stateValue)) {
+			// The result does not change any more, no need to share it
+			instances.remove(trackerUri, this);
+		}
+		return new URI(stateValue);
 	}
 
 	public synchronized String getMessage() {
 		String message = "Tracker: '" + trackerUri + "'";
 		try {
-			message += "state: " + getState().toString();
+			getState();
 		} catch (URISyntaxException e) {
-			e.printStackTrace();
+			logger.debug("Invalid tracker state: '{}'", e.getMessage());
 		}
-		try {
-			message += " verdict: " + getState().toString();
-		} catch (URISyntaxException e) {
-			e.printStackTrace();
+		if (tracker == null) {
+			return message + " could not be read";
 		}
-
-		JsonArray references = tracker.getJsonArray(IRequestTracker.TRACKER_REFERENCE_URI);
+		message += "state: " + tracker.getState();
+		message += " verdict: " + tracker.getVerdict();
 		message += "[";
-		for (JsonValue reference : references) {
-			message += reference.toString();
+		for (String reference : tracker.getReferences()) {
+			message += reference;
 		}
 		message += "]";
-		JsonObject title = tracker.getJsonArray(OSLCConstants.DC_TITLE_PROP).getJsonObject(0);
-		message += "{ " + title.getString("value") + " }";
+		message += "{ " + tracker.getTitle() + " }";
 		return message;
 	}
 
-	public static synchronized IRequestTracker getInstance(String uri, OslcClient client, Map<String, String> headers) {
-		if (instances.get(uri) == null) {
-			instances.put(uri, new RequestTrackerImpl(uri, client, headers));
+	/**
+	 * Get the tracker for a URI. Creates the tracker if there is none in the
+	 * registry.
+	 * 
+	 * @param uri
+	 * @param client
+	 * @param headers
+	 * @return the tracker
+	 */
+	public static IRequestTracker getInstance(String uri, OslcClient client, Map<String, String> headers) {
+		evictUnused();
+		RequestTrackerImpl instance = instances.computeIfAbsent(uri,
+				trackerUri -> new RequestTrackerImpl(trackerUri, client, headers));
+		instance.lastAccess = System.currentTimeMillis();
+		return instance;
+	}
+
+	/**
+	 * Remove the trackers that were not used for the time to live.
+	 */
+	private static void evictUnused() {
+		long expired = System.currentTimeMillis() - TRACKER_TIME_TO_LIVE;
+		for (Iterator<RequestTrackerImpl> iterator = instances.values().iterator(); iterator.hasNext();) {
+			RequestTrackerImpl instance = iterator.next();
+			if (instance.lastAccess < expired) {
+				logger.debug("Removing unused tracker '{}'", instance.trackerUri);
+				iterator.remove();
+			}
 		}
-		return instances.get(uri);
 	}
 
 	@Override
-	public URI getReferences() throws URISyntaxException {
-		JsonArray references = tracker.getJsonArray(IRequestTracker.TRACKER_REFERENCE_URI);
-		for (int i = 0; i < references.size(); i++) {
-			JsonObject reference = references.getJsonObject(i);
-			String type = reference.getString("type");
-			if (type != null && "uri".equals(type)) {
-				String uri = reference.getString("value");
-				return new URI(uri);
-			}
+	public synchronized URI getReferences() throws URISyntaxException {
+		if (tracker == null) {
+			return null;
+		}
+		String uri = tracker.getUriReference();
+		if (uri != null) {
+			return new URI(uri);
 		}
 		return null;
 	}
@@ -111,9 +165,9 @@ public class RequestTrackerImpl implements IRequestTracker {
 		this.trackerUri = uri;
 	}
 
-	private synchronized JsonObject getTrackerResult() {
-		jsonResultObject = JsonUtils.getTrackerState(this.trackerUri, this.client, this.headers);
-		return jsonResultObject.getJsonObject(this.trackerUri);
+	private synchronized TrackerResult getTrackerResult() {
+		lastAccess = System.currentTimeMillis();
+		return JsonUtils.getTrackerResult(this.trackerUri, this.client, this.headers);
 	}
 
 }
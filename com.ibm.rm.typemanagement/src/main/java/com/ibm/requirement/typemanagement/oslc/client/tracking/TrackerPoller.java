@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for a tracker to complete. The tracker is polled by the
+ * {@link TrackerService} according to a {@link TrackerPollingPolicy}, the
+ * calling thread only waits for the result.
+ *
+ */
+public class TrackerPoller {
+
+	public static final Logger logger = LoggerFactory.getLogger(TrackerPoller.class);
+
+	/**
+	 * Wait for the tracker to complete using the default polling policy.
+	 * 
+	 * @param tracker
+	 * @return true if the tracker completed, false if it timed out or waiting
+	 *         was interrupted
+	 * @throws URISyntaxException
+	 */
+	public static boolean waitForCompletion(final IRequestTracker tracker) throws URISyntaxException {
+		return waitForCompletion(tracker, TrackerPollingPolicy.getDefault());
+	}
+
+	/**
+	 * Wait for the tracker to complete.
+	 * 
+	 * @param tracker
+	 * @param policy
+	 *            the policy describing how often to poll the tracker
+	 * @return true if the tracker completed, false if it timed out or waiting
+	 *         was interrupted
+	 * @throws URISyntaxException
+	 */
+	public static boolean waitForCompletion(final IRequestTracker tracker, final TrackerPollingPolicy policy)
+			throws URISyntaxException {
+		CompletableFuture<URI> verdict = TrackerService.INSTANCE().track(tracker, policy);
+		try {
+			verdict.get();
+			return true;
+		} catch (InterruptedException e) {
+			verdict.cancel(false);
+			Thread.currentThread().interrupt();
+			logger.error("Interrupted waiting for the tracker to complete");
+			return false;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof URISyntaxException) {
+				throw (URISyntaxException) e.getCause();
+			}
+			logger.error("Tracker did not complete: '{}'", e.getCause().getMessage());
+			return false;
+		}
+	}
+}
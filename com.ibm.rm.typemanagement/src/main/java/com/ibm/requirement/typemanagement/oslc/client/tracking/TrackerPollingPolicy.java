@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often a tracker is polled. The first poll is performed after
+ * the initial delay. The interval between polls is then increased by the
+ * multiplier up to the maximal interval. A random jitter is applied to each
+ * interval, so that trackers started at the same time do not poll the server
+ * at the same time. Polling stops if the tracker does not complete within the
+ * timeout, or if the tracker could not be read for a number of polls in a row.
+ *
+ */
+public class TrackerPollingPolicy {
+
+	public static final long DEFAULT_INITIAL_DELAY = 500;
+	public static final double DEFAULT_MULTIPLIER = 1.5;
+	public static final double DEFAULT_JITTER = 0.2;
+	public static final long DEFAULT_MAX_INTERVAL = 10000;
+	public static final long DEFAULT_TIMEOUT = 60 * 60 * 1000;
+	public static final int DEFAULT_MAX_FAILURES = 5;
+
+	private static TrackerPollingPolicy defaultPolicy = new TrackerPollingPolicy();
+
+	private long initialDelay = DEFAULT_INITIAL_DELAY;
+	private double multiplier = DEFAULT_MULTIPLIER;
+	private double jitter = DEFAULT_JITTER;
+	private long maxInterval = DEFAULT_MAX_INTERVAL;
+	private long timeout = DEFAULT_TIMEOUT;
+	private int maxFailures = DEFAULT_MAX_FAILURES;
+
+	/**
+	 * @return the policy used if no policy is provided
+	 */
+	public static TrackerPollingPolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * Set the policy used if no policy is provided.
+	 * 
+	 * @param policy
+	 */
+	public static void setDefault(TrackerPollingPolicy policy) {
+		defaultPolicy = policy;
+	}
+
+	/**
+	 * @return the delay before the first poll in milliseconds
+	 */
+	public long getInitialDelay() {
+		return initialDelay;
+	}
+
+	/**
+	 * @param initialDelay
+	 *            the delay before the first poll in milliseconds
+	 */
+	public void setInitialDelay(long initialDelay) {
+		this.initialDelay = initialDelay;
+	}
+
+	/**
+	 * @return the factor the interval between polls is increased with
+	 */
+	public double getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * @param multiplier
+	 *            the factor the interval between polls is increased with
+	 */
+	public void setMultiplier(double multiplier) {
+		this.multiplier = multiplier;
+	}
+
+	/**
+	 * @return the fraction of the interval that is randomly added or removed
+	 */
+	public double getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * @param jitter
+	 *            the fraction of the interval that is randomly added or
+	 *            removed e.g. 0.2 for +/- 20%
+	 */
+	public void setJitter(double jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * @return the maximal interval between polls in milliseconds
+	 */
+	public long getMaxInterval() {
+		return maxInterval;
+	}
+
+	/**
+	 * @param maxInterval
+	 *            the maximal interval between polls in milliseconds
+	 */
+	public void setMaxInterval(long maxInterval) {
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * @return the time in milliseconds after which polling is given up
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @param timeout
+	 *            the time in milliseconds after which polling is given up
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return the number of polls in a row the tracker could not be read
+	 *         after which polling is given up
+	 */
+	public int getMaxFailures() {
+		return maxFailures;
+	}
+
+	/**
+	 * @param maxFailures
+	 *            the number of polls in a row the tracker could not be read
+	 *            after which polling is given up
+	 */
+	public void setMaxFailures(int maxFailures) {
+		this.maxFailures = maxFailures;
+	}
+
+	/**
+	 * Compute the interval to wait before the next poll.
+	 * 
+	 * @param interval
+	 *            the interval used for the last poll without jitter
+	 * @return the interval for the next poll without jitter
+	 */
+	public long getNextInterval(long interval) {
+		return Math.min(maxInterval, Math.max(1, (long) (interval * multiplier)));
+	}
+
+	/**
+	 * Apply the random jitter to an interval.
+	 * 
+	 * @param interval
+	 * @return the interval to wait
+	 */
+	public long applyJitter(long interval) {
+		if (jitter <= 0) {
+			return interval;
+		}
+		double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+		return Math.max(0, (long) (interval * factor));
+	}
+}
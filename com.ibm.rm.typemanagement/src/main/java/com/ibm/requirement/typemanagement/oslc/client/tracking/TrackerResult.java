@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lyo.client.oslc.OSLCConstants;
+
+/**
+ * The values of a tracker document that are needed to follow a long running
+ * operation. All other content of the document is dropped while reading it.
+ *
+ */
+public class TrackerResult {
+
+	private String state = null;
+	private String verdict = null;
+	private String message = null;
+	private String title = null;
+	private String uriReference = null;
+	private List<String> references = new ArrayList<String>();
+
+	/**
+	 * Set a value of the tracker.
+	 * 
+	 * @param predicate
+	 *            the property of the value
+	 * @param type
+	 *            the type of the value e.g. uri or literal
+	 * @param value
+	 *            the value
+	 */
+	void setValue(final String predicate, final String type, final String value) {
+		if (IRequestTracker.TRACKER_STATE_URI.equals(predicate)) {
+			if (state == null) {
+				state = value;
+			}
+		} else if (IRequestTracker.TRAKCER_VERDICT_URI.equals(predicate)) {
+			if (verdict == null) {
+				verdict = value;
+			}
+		} else if (IRequestTracker.TRACKER_MESSAGE_URI.equals(predicate)) {
+			if (message == null) {
+				message = value;
+			}
+		} else if (OSLCConstants.DC_TITLE_PROP.equals(predicate)) {
+			if (title == null) {
+				title = value;
+			}
+		} else if (IRequestTracker.TRACKER_REFERENCE_URI.equals(predicate)) {
+			references.add(value);
+			if (uriReference == null && "uri".equals(type)) {
+				uriReference = value;
+			}
+		}
+	}
+
+	/**
+	 * @param predicate
+	 * @return true if the value of the property is kept
+	 */
+	static boolean isTracked(final String predicate) {
+		return IRequestTracker.TRACKER_STATE_URI.equals(predicate)
+				|| IRequestTracker.TRAKCER_VERDICT_URI.equals(predicate)
+				|| IRequestTracker.TRACKER_MESSAGE_URI.equals(predicate)
+				|| IRequestTracker.TRACKER_REFERENCE_URI.equals(predicate)
+				|| OSLCConstants.DC_TITLE_PROP.equals(predicate);
+	}
+
+	public String getState() {
+		return state;
+	}
+
+	public String getVerdict() {
+		return verdict;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * @return the first reference of type uri or null
+	 */
+	public String getUriReference() {
+		return uriReference;
+	}
+
+	/**
+	 * @return the values of all references
+	 */
+	public List<String> getReferences() {
+		return references;
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.lyo.client.oslc.OslcClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Monitors trackers of long running server operations. All trackers are polled
+ * from one scheduled thread, each with its own backoff according to its
+ * {@link TrackerPollingPolicy}. This allows to monitor many concurrent server
+ * operations with a constant number of threads.
+ *
+ */
+public class TrackerService {
+
+	public static final Logger logger = LoggerFactory.getLogger(TrackerService.class);
+
+	private static TrackerService theInstance = null;
+
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * A tracker that is monitored and the state of its polling.
+	 */
+	private static class TrackedRequest {
+		final IRequestTracker tracker;
+		final TrackerPollingPolicy policy;
+		final CompletableFuture<URI> verdict = new CompletableFuture<URI>();
+		final long deadline;
+		long interval;
+		int failures = 0;
+
+		TrackedRequest(IRequestTracker tracker, TrackerPollingPolicy policy) {
+			this.tracker = tracker;
+			this.policy = policy;
+			this.deadline = System.currentTimeMillis() + policy.getTimeout();
+			this.interval = policy.getInitialDelay();
+		}
+	}
+
+	private TrackerService() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "tsm-tracker");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @return the service
+	 */
+	public static synchronized TrackerService INSTANCE() {
+		if (theInstance == null) {
+			theInstance = new TrackerService();
+		}
+		return theInstance;
+	}
+
+	/**
+	 * Monitor a tracker using the default polling policy.
+	 * 
+	 * @param trackerUri
+	 *            the URI of the tracker
+	 * @param client
+	 *            the client to read the tracker
+	 * @param headers
+	 *            the headers to read the tracker
+	 * @return the future verdict of the tracker
+	 */
+	public CompletableFuture<URI> track(String trackerUri, OslcClient client, Map<String, String> headers) {
+		return track(RequestTrackerImpl.getInstance(trackerUri, client, headers));
+	}
+
+	/**
+	 * Monitor a tracker using the default polling policy.
+	 * 
+	 * @param tracker
+	 * @return the future verdict of the tracker
+	 */
+	public CompletableFuture<URI> track(IRequestTracker tracker) {
+		return track(tracker, TrackerPollingPolicy.getDefault());
+	}
+
+	/**
+	 * Monitor a tracker. The future completes with the verdict when the
+	 * tracker is complete. It completes exceptionally with a
+	 * {@link TimeoutException} if the tracker does not complete within the
+	 * timeout of the policy. Cancelling the future stops polling the tracker.
+	 * 
+	 * @param tracker
+	 * @param policy
+	 *            the policy describing how often to poll the tracker
+	 * @return the future verdict of the tracker
+	 */
+	public CompletableFuture<URI> track(IRequestTracker tracker, TrackerPollingPolicy policy) {
+		TrackedRequest request = new TrackedRequest(tracker, policy);
+		schedule(request);
+		return request.verdict;
+	}
+
+	/**
+	 * Schedule the next poll of a tracker.
+	 * 
+	 * @param request
+	 */
+	private void schedule(final TrackedRequest request) {
+		long delay = Math.min(request.policy.applyJitter(request.interval),
+				request.deadline - System.currentTimeMillis());
+		scheduler.schedule(() -> poll(request), Math.max(0, delay), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Poll a tracker and complete its verdict or schedule the next poll.
+	 * 
+	 * @param request
+	 */
+	private void poll(final TrackedRequest request) {
+		if (request.verdict.isDone()) {
+			return;
+		}
+		try {
+			URI trackerState = getState(request.tracker);
+			if (trackerState == null) {
+				request.failures++;
+				if (request.failures == 1) {
+					logger.warn("Unable to read the tracker, retrying up to {} times", request.policy.getMaxFailures());
+				}
+				if (request.failures >= request.policy.getMaxFailures()) {
+					request.verdict.completeExceptionally(
+							new IOException("Tracker could not be read " + request.failures + " times in a row"));
+					return;
+				}
+			} else {
+				request.failures = 0;
+			}
+			if (trackerState != null && IRequestTracker.TRACKER_STATE_COMPLETE.equals(trackerState.toString())) {
+				request.verdict.complete(request.tracker.getVerdict());
+				return;
+			}
+			logger.trace("Tracker state : '{}'", trackerState);
+			if (System.currentTimeMillis() >= request.deadline) {
+				request.verdict.completeExceptionally(new TimeoutException(
+						"Tracker did not complete within " + request.policy.getTimeout() + " ms"));
+				return;
+			}
+			request.interval = request.policy.getNextInterval(request.interval);
+			schedule(request);
+		} catch (Exception e) {
+			request.verdict.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Get the state of the tracker. A failing request is retried with the next
+	 * poll, until the maximal number of failures of the policy is reached.
+	 * 
+	 * @param tracker
+	 * @return the state or null if it could not be read
+	 */
+	private static URI getState(final IRequestTracker tracker) {
+		try {
+			return tracker.getState();
+		} catch (Exception e) {
+			logger.debug("Unable to read tracker state: '{}'", e.getMessage());
+			return null;
+		}
+	}
+}
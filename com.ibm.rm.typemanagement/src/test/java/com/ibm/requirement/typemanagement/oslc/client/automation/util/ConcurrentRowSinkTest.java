@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ConcurrentRowSinkTest {
+
+	@Test
+	public void testOrderedRows() throws IOException {
+		StringWriter writer = new StringWriter();
+		ConcurrentRowSink sink = new ConcurrentRowSink(writer, true);
+		sink.write(2, "c\n");
+		sink.write(0, "a\n");
+		sink.write(3, "");
+		sink.write(1, "b\n");
+		sink.close();
+		assertEquals("a\nb\nc\n", writer.toString());
+	}
+
+	@Test
+	public void testOrderedRowsFromWorkers() throws Exception {
+		StringWriter writer = new StringWriter();
+		final ConcurrentRowSink sink = new ConcurrentRowSink(writer, true, 2);
+		final int workers = 8;
+		final int chunks = 50;
+		List<Thread> threads = new ArrayList<Thread>();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < workers * chunks; i++) {
+			expected.append(i).append('\n');
+		}
+		for (int worker = 0; worker < workers; worker++) {
+			final int first = worker;
+			Thread thread = new Thread(() -> {
+				// Each worker writes every n-th chunk, backwards
+				for (int sequence = first + (chunks - 1) * workers; sequence >= 0; sequence -= workers) {
+					try {
+						sink.write(sequence, sequence + "\n");
+					} catch (IOException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		sink.close();
+		assertEquals(expected.toString(), writer.toString());
+	}
+
+	@Test
+	public void testUnorderedRows() throws IOException {
+		StringWriter writer = new StringWriter();
+		ConcurrentRowSink sink = new ConcurrentRowSink(writer, false);
+		sink.write(0, "a\n");
+		sink.write(0, "b\n");
+		sink.close();
+		assertEquals("a\nb\n", writer.toString());
+	}
+
+	@Test
+	public void testMissingRows() throws IOException {
+		StringWriter writer = new StringWriter();
+		ConcurrentRowSink sink = new ConcurrentRowSink(writer, true);
+		sink.write(0, "a\n");
+		sink.write(3, "d\n");
+		sink.write(2, "c\n");
+		sink.close();
+		assertEquals("a\nc\nd\n", writer.toString());
+	}
+
+	@Test
+	public void testWriteFailure() throws IOException {
+		final IOException failure = new IOException("disk full");
+		Writer writer = new Writer() {
+			@Override
+			public void write(final char[] buffer, final int offset, final int length) throws IOException {
+				throw failure;
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		// More rows than the queue holds, the workers must not wait forever
+		ConcurrentRowSink sink = new ConcurrentRowSink(writer, false, 1);
+		for (int i = 0; i < 10; i++) {
+			try {
+				sink.write(i, "row\n");
+			} catch (IOException e) {
+				assertSame(failure, e);
+			}
+		}
+		try {
+			sink.close();
+			fail("The failure is passed on");
+		} catch (IOException e) {
+			assertSame(failure, e);
+		}
+	}
+}
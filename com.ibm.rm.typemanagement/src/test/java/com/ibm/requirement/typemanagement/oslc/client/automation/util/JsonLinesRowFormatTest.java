@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.automation.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class JsonLinesRowFormatTest {
+
+	private static final String[] COLUMNS = { "Id", "Title" };
+
+	private static String row(final String id, final String title) {
+		RowFormat format = new JsonLinesRowFormat();
+		StringBuilder out = new StringBuilder();
+		format.appendValue(out, COLUMNS, 0, id);
+		format.appendValue(out, COLUMNS, 1, title);
+		format.endRow(out);
+		return out.toString();
+	}
+
+	@Test
+	public void testNoHeader() {
+		StringBuilder out = new StringBuilder();
+		new JsonLinesRowFormat().appendHeader(out, COLUMNS);
+		assertEquals("", out.toString());
+	}
+
+	@Test
+	public void testRow() {
+		assertEquals("{\"Id\":\"1\",\"Title\":\"Stream\"}\n", row("1", "Stream"));
+	}
+
+	@Test
+	public void testNullValue() {
+		assertEquals("{\"Id\":\"1\",\"Title\":null}\n", row("1", null));
+	}
+
+	@Test
+	public void testEscaping() {
+		assertEquals("{\"Id\":\"1\",\"Title\":\"a \\\"quoted\\\" back\\\\slash\"}\n",
+				row("1", "a \"quoted\" back\\slash"));
+		assertEquals("{\"Id\":\"1\",\"Title\":\"line\\nbreak\\r\\ttab\"}\n", row("1", "line\nbreak\r\ttab"));
+		// Control characters are escaped, other characters are kept
+		assertEquals("{\"Id\":\"1\",\"Title\":\"\\u0001\\u001f \u00e4\"}\n", row("1", "\u0001\u001f \u00e4"));
+	}
+
+	@Test
+	public void testFormatByName() {
+		assertEquals(JsonLinesRowFormat.class, RowFormat.getFormat("JSONL", ";").getClass());
+	}
+}
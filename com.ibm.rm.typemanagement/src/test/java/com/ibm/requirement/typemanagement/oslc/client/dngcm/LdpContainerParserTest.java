@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class LdpContainerParserTest {
+
+	private static final String BASE = "https://clm.example.com/rm/cm/component/1/configurations";
+
+	private static final String CONTAINER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+			+ "    xmlns:rdfs=\"http://www.w3.org/2000/01/rdf-schema#\"\n"
+			+ "    xmlns:dcterms=\"http://purl.org/dc/terms/\"\n"
+			+ "    xmlns:ldp=\"http://www.w3.org/ns/ldp#\"\n"
+			+ "    xmlns:oslc=\"http://open-services.net/ns/core#\">\n"
+			+ "  <ldp:Container rdf:about=\"" + BASE + "\">\n"
+			+ "    <ldp:contains rdf:resource=\"https://clm.example.com/rm/cm/stream/1\"/>\n"
+			+ "    <ldp:contains rdf:resource=\"https://clm.example.com/rm/cm/stream/2\"/>\n"
+			+ "    <ldp:contains rdf:resource=\"https://clm.example.com/rm/cm/baseline/3\"/>\n"
+			+ "    <rdfs:member rdf:resource=\"https://clm.example.com/rm/cm/stream/2\"/>\n"
+			+ "    <rdfs:member rdf:resource=\"https://clm.example.com/rm/cm/stream/1\"/>\n"
+			+ "    <oslc:creation rdf:resource=\"https://clm.example.com/rm/cm/stream\"/>\n"
+			+ "    <oslc:nextPage rdf:resource=\"" + BASE + "?page=2\"/>\n"
+			+ "  </ldp:Container>\n"
+			+ "  <rdf:Description rdf:about=\"https://clm.example.com/rm/cm/stream/1\">\n"
+			+ "    <dcterms:title>Stream 1</dcterms:title>\n"
+			+ "  </rdf:Description>\n"
+			+ "  <rdf:Description rdf:about=\"https://clm.example.com/rm/cm/baseline/3\">\n"
+			+ "    <dcterms:title>Baseline 3</dcterms:title>\n"
+			+ "    <dcterms:description>A baseline</dcterms:description>\n"
+			+ "  </rdf:Description>\n"
+			+ "</rdf:RDF>\n";
+
+	private static InputStream toStream(final String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testContainer() {
+		LdpContainerParser container = LdpContainerParser.parse(toStream(CONTAINER), BASE);
+		assertEquals(
+				Arrays.asList("https://clm.example.com/rm/cm/stream/1", "https://clm.example.com/rm/cm/baseline/3"),
+				container.getContainedResources());
+		assertEquals(Arrays.asList("https://clm.example.com/rm/cm/stream/2", "https://clm.example.com/rm/cm/stream/1"),
+				container.getMembers());
+		assertEquals(Collections.singletonList("https://clm.example.com/rm/cm/stream"),
+				container.getCreationFactories());
+		assertEquals(BASE + "?page=2", container.getNextPage());
+	}
+
+	@Test
+	public void testProperties() {
+		LdpContainerParser container = LdpContainerParser.parse(toStream(CONTAINER), BASE);
+		assertTrue(container.getProperties("https://clm.example.com/rm/cm/baseline/3").isEmpty());
+
+		container = LdpContainerParser.parse(toStream(CONTAINER), BASE, true);
+		assertEquals(2, container.getProperties("https://clm.example.com/rm/cm/baseline/3").size());
+		assertEquals(1, container.getProperties("https://clm.example.com/rm/cm/stream/1").size());
+		assertTrue(container.getProperties("https://clm.example.com/rm/cm/stream/2").isEmpty());
+	}
+
+	@Test
+	public void testLastPage() {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+				+ "    xmlns:rdfs=\"http://www.w3.org/2000/01/rdf-schema#\">\n"
+				+ "  <rdf:Description rdf:about=\"" + BASE + "\">\n"
+				+ "    <rdfs:member rdf:resource=\"stream/1\"/>\n"
+				+ "  </rdf:Description>\n"
+				+ "</rdf:RDF>\n";
+		LdpContainerParser container = LdpContainerParser.parse(toStream(xml), BASE);
+		assertEquals(Collections.singletonList("https://clm.example.com/rm/cm/component/1/stream/1"),
+				container.getMembers());
+		assertTrue(container.getContainedResources().isEmpty());
+		assertNull(container.getNextPage());
+	}
+}
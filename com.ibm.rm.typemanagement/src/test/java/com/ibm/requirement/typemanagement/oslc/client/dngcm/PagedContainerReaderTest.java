@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class PagedContainerReaderTest {
+
+	@Test
+	public void testNoLinks() {
+		assertNull(PagedContainerReader.getNextLink(null));
+		assertNull(PagedContainerReader.getNextLink(Collections.<String> emptyList()));
+	}
+
+	@Test
+	public void testNextLink() {
+		assertEquals("https://clm.example.com/rm/page/2", PagedContainerReader
+				.getNextLink(Arrays.asList("<https://clm.example.com/rm/page/2>; rel=\"next\"")));
+	}
+
+	@Test
+	public void testNextLinkAmongOtherLinks() {
+		assertEquals("https://clm.example.com/rm/page/3",
+				PagedContainerReader.getNextLink(Arrays.asList("<https://clm.example.com/rm/page/1>; rel=\"first\"",
+						"<https://clm.example.com/rm/type>; rel=\"type\", "
+								+ "<https://clm.example.com/rm/page/3>; REL=next")));
+	}
+
+	@Test
+	public void testNoNextLink() {
+		assertNull(
+				PagedContainerReader.getNextLink(Arrays.asList("<https://clm.example.com/rm/page/1>; rel=\"prev\"")));
+		assertNull(PagedContainerReader.getNextLink(Arrays.asList("https://clm.example.com/rm/page/2; rel=\"next\"")));
+	}
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.requirement.typemanagement.oslc.client.dngcm.ProgressJournal.Progress;
+
+public class ProgressJournalTest {
+
+	private static final String SOURCE = "https://clm.example.com/rm/cm/stream/1";
+	private static final String TARGET = "https://clm.example.com/rm/cm/stream/2";
+	private static final String CHANGESET = "https://clm.example.com/rm/cm/changeset/1";
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("journal", ".txt");
+		file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private String read() throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	private void append(final String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+	}
+
+	@Test
+	public void testReplay() throws IOException {
+		ProgressJournal journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		journal.record(ProgressJournal.STEP_CHANGESET_CREATED, SOURCE, TARGET, CHANGESET);
+		journal.record(ProgressJournal.STEP_IMPORTED, SOURCE, TARGET, CHANGESET);
+		journal.close();
+
+		journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		try {
+			assertEquals(ProgressJournal.OPERATION_IMPORT, journal.getOperation());
+			Progress progress = journal.getProgress(SOURCE, TARGET);
+			assertEquals(CHANGESET, progress.getChangeSet());
+			assertTrue(progress.isImported());
+			assertFalse(progress.isDelivered());
+			assertNull(journal.getProgress(TARGET, SOURCE).getChangeSet());
+		} finally {
+			journal.close();
+		}
+	}
+
+	@Test
+	public void testDiscardedChangeSet() throws IOException {
+		ProgressJournal journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		journal.record(ProgressJournal.STEP_CHANGESET_CREATED, SOURCE, TARGET, CHANGESET);
+		journal.record(ProgressJournal.STEP_IMPORTED, SOURCE, TARGET, CHANGESET);
+		journal.record(ProgressJournal.STEP_CHANGESET_DISCARDED, SOURCE, TARGET, CHANGESET);
+		journal.close();
+
+		journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		try {
+			Progress progress = journal.getProgress(SOURCE, TARGET);
+			assertNull(progress.getChangeSet());
+			assertFalse(progress.isImported());
+		} finally {
+			journal.close();
+		}
+	}
+
+	@Test
+	public void testImportedIntoOtherChangeSet() throws IOException {
+		ProgressJournal journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		try {
+			journal.record(ProgressJournal.STEP_CHANGESET_CREATED, SOURCE, TARGET, CHANGESET);
+			journal.record(ProgressJournal.STEP_IMPORTED, SOURCE, TARGET, CHANGESET + "0");
+			assertFalse(journal.getProgress(SOURCE, TARGET).isImported());
+		} finally {
+			journal.close();
+		}
+	}
+
+	@Test
+	public void testTruncatedLineIsIgnored() throws IOException {
+		ProgressJournal journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_DELIVER);
+		journal.record(ProgressJournal.STEP_CHANGESET_CREATED, SOURCE, TARGET, CHANGESET);
+		journal.close();
+		// A run that ended while writing a step
+		append(ProgressJournal.STEP_DELIVERED + "\t" + SOURCE);
+
+		journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_DELIVER);
+		try {
+			assertFalse(journal.getProgress(SOURCE, TARGET).isDelivered());
+			journal.record(ProgressJournal.STEP_DELIVERED, SOURCE, TARGET, CHANGESET);
+		} finally {
+			journal.close();
+		}
+		assertTrue(read().endsWith("\t" + SOURCE + "\n" + ProgressJournal.STEP_DELIVERED + "\t" + SOURCE + "\t"
+				+ TARGET + "\t" + CHANGESET + "\n"));
+
+		journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_DELIVER);
+		try {
+			Progress progress = journal.getProgress(SOURCE, TARGET);
+			assertTrue(progress.isDelivered());
+			assertEquals(CHANGESET, progress.getChangeSet());
+		} finally {
+			journal.close();
+		}
+	}
+
+	@Test
+	public void testInvalidLineIsIgnored() throws IOException {
+		ProgressJournal journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		journal.close();
+		append("garbage\n");
+
+		journal = ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT);
+		try {
+			journal.record(ProgressJournal.STEP_CHANGESET_CREATED, SOURCE, TARGET, null);
+			assertNull(journal.getProgress(SOURCE, TARGET).getChangeSet());
+		} finally {
+			journal.close();
+		}
+	}
+
+	@Test
+	public void testOtherOperationIsRejected() throws IOException {
+		ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_IMPORT).close();
+		try {
+			ProgressJournal.open(file.getPath(), ProgressJournal.OPERATION_DELIVER).close();
+			fail("A journal of an import can not be used for a delivery");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
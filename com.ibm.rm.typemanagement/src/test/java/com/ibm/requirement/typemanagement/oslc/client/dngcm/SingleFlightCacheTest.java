@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.dngcm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SingleFlightCacheTest {
+
+	@Test
+	public void testResultIsKept() throws Exception {
+		SingleFlightCache<String> cache = new SingleFlightCache<String>(false);
+		AtomicInteger requests = new AtomicInteger();
+		assertEquals("a1", cache.get("a", key -> key + requests.incrementAndGet()));
+		assertEquals("a1", cache.get("a", key -> key + requests.incrementAndGet()));
+		assertEquals("b2", cache.get("b", key -> key + requests.incrementAndGet()));
+		assertEquals(2, requests.get());
+		cache.clear();
+		assertEquals("a3", cache.get("a", key -> key + requests.incrementAndGet()));
+	}
+
+	@Test
+	public void testNullResult() throws Exception {
+		AtomicInteger requests = new AtomicInteger();
+		SingleFlightCache<String> cache = new SingleFlightCache<String>(false);
+		assertNull(cache.get("a", key -> {
+			requests.incrementAndGet();
+			return null;
+		}));
+		assertEquals("a", cache.get("a", key -> key));
+		assertEquals(1, requests.get());
+
+		SingleFlightCache<String> keepNull = new SingleFlightCache<String>(true);
+		assertNull(keepNull.get("a", key -> null));
+		assertNull(keepNull.get("a", key -> key));
+	}
+
+	@Test
+	public void testFailedRequestIsNotKept() throws Exception {
+		SingleFlightCache<String> cache = new SingleFlightCache<String>(false);
+		IOException failure = new IOException("failed");
+		try {
+			cache.get("a", key -> {
+				throw failure;
+			});
+			fail("The failure is passed on");
+		} catch (IOException e) {
+			assertSame(failure, e);
+		}
+		assertEquals("a", cache.get("a", key -> key));
+	}
+
+	@Test
+	public void testRequestThrowingAnErrorIsNotKept() throws Exception {
+		SingleFlightCache<String> cache = new SingleFlightCache<String>(false);
+		Error failure = new AssertionError("failed");
+		try {
+			cache.get("a", key -> {
+				throw failure;
+			});
+			fail("The error is passed on");
+		} catch (AssertionError e) {
+			assertSame(failure, e);
+		}
+		// Would wait forever for the failed request if it was kept
+		assertEquals("a", cache.get("a", key -> key));
+	}
+
+	@Test
+	public void testConcurrentCallersShareOneRequest() throws Exception {
+		final SingleFlightCache<String> cache = new SingleFlightCache<String>(false);
+		final AtomicInteger requests = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final List<String> results = new ArrayList<String>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 5; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					String result = cache.get("a", key -> {
+						requests.incrementAndGet();
+						started.countDown();
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							throw new IOException(e);
+						}
+						return key;
+					});
+					synchronized (results) {
+						results.add(result);
+					}
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+			if (i == 0) {
+				// The other threads find the request in flight
+				started.await();
+			}
+		}
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(1, requests.get());
+		assertEquals(5, results.size());
+		for (String result : results) {
+			assertEquals("a", result);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.lyo.client.oslc.OSLCConstants;
+import org.junit.Test;
+
+public class JsonUtilsTest {
+
+	private static final String TRACKER = "https://clm.example.com/rm/tracker/1";
+	private static final String OTHER = "https://clm.example.com/rm/tracker/2";
+
+	private static InputStream toStream(final String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String value(final String type, final String value) {
+		return "{\"type\":\"" + type + "\",\"value\":\"" + value + "\"}";
+	}
+
+	@Test
+	public void testReadTrackerValues() {
+		String json = "{\"" + TRACKER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "complete") + "],"
+				+ "\"" + IRequestTracker.TRAKCER_VERDICT_URI + "\":[" + value("uri", "passed") + "],"
+				+ "\"" + IRequestTracker.TRACKER_MESSAGE_URI + "\":[" + value("literal", "Done") + "],"
+				+ "\"" + OSLCConstants.DC_TITLE_PROP + "\":[" + value("literal", "Import") + "],"
+				+ "\"" + IRequestTracker.TRACKER_REFERENCE_URI + "\":[" + value("literal", "text") + ","
+				+ value("uri", "https://clm.example.com/rm/cm/changeset/1") + "],"
+				+ "\"http://example.com/untracked\":[" + value("literal", "dropped") + "]}}";
+		TrackerResult result = JsonUtils.readTrackerResult(toStream(json), TRACKER);
+		assertEquals("complete", result.getState());
+		assertEquals("passed", result.getVerdict());
+		assertEquals("Done", result.getMessage());
+		assertEquals("Import", result.getTitle());
+		assertEquals("https://clm.example.com/rm/cm/changeset/1", result.getUriReference());
+		assertEquals(Arrays.asList("text", "https://clm.example.com/rm/cm/changeset/1"), result.getReferences());
+	}
+
+	@Test
+	public void testOtherSubjectsAreIgnored() {
+		String json = "{\"" + OTHER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "other") + "],"
+				+ "\"" + IRequestTracker.TRACKER_MESSAGE_URI + "\":[" + value("literal", "Other") + "]},"
+				+ "\"" + TRACKER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "inProgress") + "]}}";
+		TrackerResult result = JsonUtils.readTrackerResult(toStream(json), TRACKER);
+		assertEquals("inProgress", result.getState());
+		assertNull(result.getMessage());
+		assertNull(result.getUriReference());
+	}
+
+	@Test
+	public void testValuesAfterTheSubjectAreIgnored() {
+		String json = "{\"" + TRACKER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "complete") + "]},"
+				+ "\"" + OTHER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_MESSAGE_URI + "\":[" + value("literal", "Other") + "],"
+				+ "\"http://example.com/untracked\":[" + value("literal", "dropped") + "]}}";
+		TrackerResult result = JsonUtils.readTrackerResult(toStream(json), TRACKER);
+		assertEquals("complete", result.getState());
+		assertNull(result.getMessage());
+	}
+
+	@Test
+	public void testUntrackedPredicateIsIgnored() {
+		String json = "{\"" + TRACKER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_MESSAGE_URI + "\":[" + value("literal", "Done") + "],"
+				+ "\"http://example.com/untracked\":[" + value("literal", "dropped") + "]}}";
+		assertEquals("Done", JsonUtils.readTrackerResult(toStream(json), TRACKER).getMessage());
+	}
+
+	@Test
+	public void testFirstValueIsKept() {
+		String json = "{\"" + TRACKER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "first") + ","
+				+ value("uri", "second") + "]}}";
+		assertEquals("first", JsonUtils.readTrackerResult(toStream(json), TRACKER).getState());
+	}
+
+	@Test
+	public void testMissingSubject() {
+		String json = "{\"" + OTHER + "\":{" //
+				+ "\"" + IRequestTracker.TRACKER_STATE_URI + "\":[" + value("uri", "complete") + "]}}";
+		assertNull(JsonUtils.readTrackerResult(toStream(json), TRACKER));
+		assertNull(JsonUtils.readTrackerResult(toStream("{}"), TRACKER));
+	}
+}
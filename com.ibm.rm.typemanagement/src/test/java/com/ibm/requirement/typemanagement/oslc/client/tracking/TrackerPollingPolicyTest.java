@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *
+ *    jazz-community - Initial implementation
+ *******************************************************************************/
+package com.ibm.requirement.typemanagement.oslc.client.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TrackerPollingPolicyTest {
+
+	@Test
+	public void testDefaults() {
+		TrackerPollingPolicy policy = new TrackerPollingPolicy();
+		assertEquals(TrackerPollingPolicy.DEFAULT_INITIAL_DELAY, policy.getInitialDelay());
+		assertEquals(TrackerPollingPolicy.DEFAULT_MAX_INTERVAL, policy.getMaxInterval());
+		assertEquals(TrackerPollingPolicy.DEFAULT_TIMEOUT, policy.getTimeout());
+		assertEquals(TrackerPollingPolicy.DEFAULT_MAX_FAILURES, policy.getMaxFailures());
+	}
+
+	@Test
+	public void testIntervalGrowsUpToMaximum() {
+		TrackerPollingPolicy policy = new TrackerPollingPolicy();
+		policy.setMultiplier(2);
+		policy.setMaxInterval(1000);
+		assertEquals(200, policy.getNextInterval(100));
+		assertEquals(800, policy.getNextInterval(400));
+		assertEquals(1000, policy.getNextInterval(600));
+		assertEquals(1000, policy.getNextInterval(1000));
+	}
+
+	@Test
+	public void testIntervalIsAtLeastOne() {
+		TrackerPollingPolicy policy = new TrackerPollingPolicy();
+		policy.setMultiplier(0.5);
+		assertEquals(1, policy.getNextInterval(1));
+		assertEquals(1, policy.getNextInterval(0));
+	}
+
+	@Test
+	public void testNoJitter() {
+		TrackerPollingPolicy policy = new TrackerPollingPolicy();
+		policy.setJitter(0);
+		assertEquals(500, policy.applyJitter(500));
+	}
+
+	@Test
+	public void testJitterStaysWithinBounds() {
+		TrackerPollingPolicy policy = new TrackerPollingPolicy();
+		policy.setJitter(0.2);
+		for (int i = 0; i < 1000; i++) {
+			long interval = policy.applyJitter(1000);
+			assertTrue("Interval " + interval, interval >= 800 && interval <= 1200);
+		}
+	}
+}